@@ -324,6 +324,9 @@ public class Main {
                     if (commandLineArguments.isFilterOnMigrationIds()) {
                         //Must use System.out here rather than LOG.info because LogCreator is empty.
                         System.out.print(MigrationInfoDumper.dumpToMigrationIds(infos));
+                    } else if (Boolean.TRUE.equals(flyway.getConfiguration().getModernConfig().getFlyway().getStreamTableOutput())) {
+                        MigrationInfoDumper.dumpToAsciiTable(infos, LOG::info);
+                        LOG.info("");
                     } else {
                         LOG.info(MigrationInfoDumper.dumpToAsciiTable(infos));
                     }
@@ -416,6 +419,9 @@ public class Main {
             if (reportDetails.getHtmlReportFilename() != null) {
                 objectNode.put("htmlReport", reportDetails.getHtmlReportFilename());
             }
+            if (reportDetails.getReportStoreFilename() != null) {
+                objectNode.put("reportStore", reportDetails.getReportStoreFilename());
+            }
         }
 
         return mapper.writeValueAsString(objectNode);
@@ -159,6 +159,25 @@ public class Flyway {
         return getConfiguration().getPluginRegister().getPlugin(configClass);
     }
 
+    /**
+     * Opens a session in which the commands invoked on this Flyway instance share their database connections and the
+     * detected database type, instead of connecting again for every command. Close the session to release them.
+     * <pre>
+     * try (FlywaySession session = flyway.openSession()) {
+     *     flyway.info();
+     *     flyway.validate();
+     *     flyway.migrate();
+     * }
+     * </pre>
+     *
+     * @return The new session.
+     *
+     * @throws FlywayException when a session is already open on this Flyway instance.
+     */
+    public FlywaySession openSession() {
+        return flywayExecutor.openSession();
+    }
+
     /**
      * Starts the database migration. All pending migrations will be applied in order.
      * Calling migrate on an up-to-date database has no effect.
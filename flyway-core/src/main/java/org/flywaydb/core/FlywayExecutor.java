@@ -21,6 +21,7 @@ package org.flywaydb.core;
 
 import lombok.CustomLog;
 import org.flywaydb.core.api.ClassProvider;
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.ResourceProvider;
 import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.configuration.Configuration;
@@ -39,6 +40,7 @@ import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
+import org.flywaydb.core.internal.resolver.ResolutionCache;
 import org.flywaydb.core.internal.resolver.script.ScriptMigrationResolver;
 import org.flywaydb.core.internal.resource.NoopResourceProvider;
 import org.flywaydb.core.internal.resource.ResourceNameValidator;
@@ -51,7 +53,6 @@ import org.flywaydb.core.internal.schemahistory.SchemaHistoryFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
-import org.flywaydb.core.internal.strategy.RetryStrategy;
 import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 import org.flywaydb.core.internal.util.IOUtils;
@@ -62,6 +63,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.flywaydb.core.api.callback.Event.CREATE_SCHEMA;
 import static org.flywaydb.core.internal.database.DatabaseTypeRegister.redactJdbcUrl;
@@ -97,6 +99,10 @@ public class FlywayExecutor {
      */
     private boolean dbConnectionInfoPrinted;
     private final Configuration configuration;
+    /**
+     * The currently open session whose connections are shared between commands. {@code null} if none.
+     */
+    private FlywaySession session;
 
     public FlywayExecutor(Configuration configuration) {
         this.configurationValidator = new ConfigurationValidator();
@@ -106,6 +112,26 @@ public class FlywayExecutor {
         this.configuration = configuration;
     }
 
+    /**
+     * Opens a session in which subsequent commands reuse the same database connections.
+     *
+     * @return The new session.
+     * @throws FlywayException when a session is already open.
+     */
+    public FlywaySession openSession() {
+        if (session != null) {
+            throw new FlywayException("A Flyway session is already open. Close it before opening a new one.");
+        }
+        session = new FlywaySession(this);
+        return session;
+    }
+
+    void closeSession(FlywaySession closedSession) {
+        if (session == closedSession) {
+            session = null;
+        }
+    }
+
     /**
      * Executes this command with proper resource handling and cleanup.
      *
@@ -133,15 +159,19 @@ public class FlywayExecutor {
 
 
 
-        JdbcConnectionFactory jdbcConnectionFactory = new JdbcConnectionFactory(configuration.getDataSource(), configuration, statementInterceptor);
+        // Statement interceptors wrap and close connections themselves, so connections are only shared without one
+        final FlywaySession activeSession = statementInterceptor == null ? session : null;
+        final boolean reuseConnections = activeSession != null && activeSession.getDatabase() != null;
+
+        JdbcConnectionFactory jdbcConnectionFactory = reuseConnections
+                ? activeSession.getJdbcConnectionFactory()
+                : new JdbcConnectionFactory(configuration.getDataSource(), configuration, statementInterceptor);
 
         final DatabaseType databaseType = jdbcConnectionFactory.getDatabaseType();
         final SqlScriptFactory sqlScriptFactory = databaseType.createSqlScriptFactory(configuration, parsingContext);
 
         resourceNameValidator.validateSQLMigrationNaming(resourceProvider, configuration, databaseType);
 
-        RetryStrategy.setNumberOfRetries(configuration.getLockRetryCount());
-
         final SqlScriptExecutorFactory noCallbackSqlScriptExecutorFactory = databaseType.createSqlScriptExecutorFactory(
                 jdbcConnectionFactory, NoopCallbackExecutor.INSTANCE, null);
 
@@ -160,7 +190,14 @@ public class FlywayExecutor {
 
         Database database = null;
         try {
-            database = databaseType.createDatabase(configuration, jdbcConnectionFactory, statementInterceptor);
+            if (reuseConnections) {
+                database = activeSession.getDatabase();
+            } else {
+                database = databaseType.createDatabase(configuration, jdbcConnectionFactory, statementInterceptor);
+                if (activeSession != null) {
+                    activeSession.attach(jdbcConnectionFactory, database);
+                }
+            }
 
             if (!dbConnectionInfoPrinted) {
                 dbConnectionInfoPrinted = true;
@@ -216,7 +253,11 @@ public class FlywayExecutor {
                     callbackExecutor,
                     statementInterceptor);
         } finally {
-            IOUtils.close(database);
+            if (activeSession != null && activeSession.getDatabase() == database) {
+                activeSession.release();
+            } else {
+                IOUtils.close(database);
+            }
             if (statementInterceptor instanceof AutoCloseable) {
                 IOUtils.close((AutoCloseable) statementInterceptor);
             }
@@ -250,12 +291,17 @@ public class FlywayExecutor {
 
 
 
-                Scanner<JavaMigration> scanner = new Scanner<>(
+                final boolean streamResources = stream;
+                Supplier<Scanner<JavaMigration>> scannerFactory = () -> new Scanner<>(
                         JavaMigration.class,
-                        stream,
+                        streamResources,
                         resourceNameCache,
                         locationScannerCache,
                         configuration);
+                Boolean cacheResolvedMigrations = configuration.getModernConfig().getFlyway().getCacheResolvedMigrations();
+                Scanner<JavaMigration> scanner = Boolean.TRUE.equals(cacheResolvedMigrations)
+                        ? ResolutionCache.getScanner(configuration, JavaMigration.class, stream, scannerFactory)
+                        : scannerFactory.get();
                 // set the defaults
                 resourceProvider = scanner;
                 classProvider = scanner;
@@ -0,0 +1,87 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core;
+
+import lombok.AccessLevel;
+import lombok.CustomLog;
+import lombok.Getter;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
+import org.flywaydb.core.internal.util.IOUtils;
+
+/**
+ * A session in which consecutive commands on the same Flyway instance share their database connections and the
+ * detected database type, instead of opening and closing them for every command. Connections are restored to their
+ * original state between commands and closed when the session is closed.
+ * <pre>
+ * try (FlywaySession session = flyway.openSession()) {
+ *     flyway.validate();
+ *     flyway.migrate();
+ * }
+ * </pre>
+ * A session is not thread-safe and only one session can be open per Flyway instance at a time.
+ */
+@CustomLog
+public class FlywaySession implements AutoCloseable {
+    private final FlywayExecutor flywayExecutor;
+    @Getter(AccessLevel.PACKAGE)
+    private JdbcConnectionFactory jdbcConnectionFactory;
+    @Getter(AccessLevel.PACKAGE)
+    private Database database;
+
+    FlywaySession(FlywayExecutor flywayExecutor) {
+        this.flywayExecutor = flywayExecutor;
+    }
+
+    void attach(JdbcConnectionFactory jdbcConnectionFactory, Database database) {
+        this.jdbcConnectionFactory = jdbcConnectionFactory;
+        this.database = database;
+        database.setRetainConnections(true);
+    }
+
+    /**
+     * Resets the shared connections after a command so the next command starts from their original state. If this
+     * fails the connections are discarded and the next command opens new ones.
+     */
+    void release() {
+        if (database == null) {
+            return;
+        }
+        try {
+            database.resetConnections();
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to reset session connections, they will be reopened: " + e.getMessage());
+            discard();
+        }
+    }
+
+    private void discard() {
+        IOUtils.close(database);
+        IOUtils.close(jdbcConnectionFactory);
+        database = null;
+        jdbcConnectionFactory = null;
+    }
+
+    @Override
+    public void close() {
+        discard();
+        flywayExecutor.closeSession(this);
+    }
+}
@@ -0,0 +1,263 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.flywaydb.core.api.output.MigrateErrorResult;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.flywaydb.core.api.output.MultiTargetMigrateResult;
+import org.flywaydb.core.internal.exception.FlywayMigrateException;
+import org.flywaydb.core.internal.scanner.LocationScannerCache;
+import org.flywaydb.core.internal.scanner.ResourceNameCache;
+import org.flywaydb.core.internal.scanner.Scanner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Migrates many targets (typically tenant schemas or databases) sharing the same migrations concurrently. Locations
+ * are scanned once for all targets resolving them the same way, then each target is migrated by its own Flyway
+ * instance on a bounded pool of worker threads. Only the scan is shared: each target still resolves and checksums the
+ * migrations itself, unless cacheResolvedMigrations is enabled so that targets share them through the resolution
+ * cache.
+ * <pre>
+ * MultiTargetMigrateResult result = new MultiTargetRunner(Flyway.configure().dataSource(url, user, password))
+ *         .schemaTargets("tenant_1", "tenant_2", "tenant_3")
+ *         .parallelism(8)
+ *         .failurePolicy(MultiTargetRunner.FailurePolicy.CONTINUE)
+ *         .migrate();
+ * </pre>
+ * Each target receives its own copy of the base configuration, including its plugins, so targets never share
+ * mutable configuration state. Schema-specific placeholders are applied per target, so SQL migrations are still
+ * parsed as each target executes them.
+ */
+@CustomLog
+public class MultiTargetRunner {
+    /**
+     * What to do with the remaining targets when a target fails.
+     */
+    public enum FailurePolicy {
+        /**
+         * Finish the targets already being migrated and skip all targets that have not started yet.
+         */
+        FAIL_FAST,
+        /**
+         * Keep migrating all remaining targets.
+         */
+        CONTINUE
+    }
+
+    private final Configuration configuration;
+    private final Map<String, Consumer<FluentConfiguration>> targets = new LinkedHashMap<>();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private FailurePolicy failurePolicy = FailurePolicy.FAIL_FAST;
+
+    /**
+     * Creates a new runner.
+     *
+     * @param configuration The configuration shared by all targets.
+     */
+    public MultiTargetRunner(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Adds a target.
+     *
+     * @param name The name identifying the target in the results. Must be unique.
+     * @param customizer Adapts the shared configuration to this target, e.g. by setting its schemas or data source.
+     * @return This runner.
+     */
+    public MultiTargetRunner target(String name, Consumer<FluentConfiguration> customizer) {
+        if (targets.containsKey(name)) {
+            throw new FlywayException("Duplicate migration target: " + name);
+        }
+        targets.put(name, customizer);
+        return this;
+    }
+
+    /**
+     * Adds one target per schema, each migrating only that schema and keeping its schema history table there.
+     *
+     * @param schemas The schemas to migrate.
+     * @return This runner.
+     */
+    public MultiTargetRunner schemaTargets(String... schemas) {
+        for (String schema : schemas) {
+            target(schema, c -> c.schemas(schema));
+        }
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of targets migrated at the same time. Each worker holds its own database connections.
+     *
+     * @param parallelism The number of worker threads. (default: the number of available processors)
+     * @return This runner.
+     */
+    public MultiTargetRunner parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new FlywayException("Invalid parallelism: " + parallelism + ". Must be at least 1.");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @param failurePolicy What to do with the remaining targets when a target fails. (default: fail fast)
+     * @return This runner.
+     */
+    public MultiTargetRunner failurePolicy(FailurePolicy failurePolicy) {
+        this.failurePolicy = failurePolicy;
+        return this;
+    }
+
+    /**
+     * Migrates all targets.
+     *
+     * @return The result of each target. Failures are reported in the result rather than thrown.
+     */
+    public MultiTargetMigrateResult migrate() {
+        // Configurations are copied up front on the calling thread so workers never read the shared one
+        Map<String, Flyway> flyways = new LinkedHashMap<>();
+        Map<ClassLoader, Map<String, Scanner<JavaMigration>>> scanners = new IdentityHashMap<>();
+        for (Map.Entry<String, Consumer<FluentConfiguration>> target : targets.entrySet()) {
+            FluentConfiguration targetConfiguration = Flyway.configure(configuration.getClassLoader()).configuration(configuration);
+            target.getValue().accept(targetConfiguration);
+            shareScanner(targetConfiguration, scanners);
+            flyways.put(target.getKey(), targetConfiguration.load());
+        }
+
+        int workers = Math.min(parallelism, Math.max(1, flyways.size()));
+        LOG.info("Migrating " + flyways.size() + " target(s) with up to " + workers + " worker(s)");
+
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "flyway-target-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Map<String, Future<MigrateResult>> futures = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Flyway> target : flyways.entrySet()) {
+                futures.put(target.getKey(), executorService.submit(() -> migrate(target.getKey(), target.getValue(), failed)));
+            }
+
+            MultiTargetMigrateResult result = new MultiTargetMigrateResult();
+            for (Map.Entry<String, Future<MigrateResult>> future : futures.entrySet()) {
+                MigrateResult targetResult = await(future.getValue());
+                if (targetResult == null) {
+                    result.skippedTargets.add(future.getKey());
+                    continue;
+                }
+                result.results.put(future.getKey(), targetResult);
+                if (targetResult instanceof MigrateErrorResult) {
+                    result.failedTargets.add(future.getKey());
+                }
+            }
+            result.success = result.failedTargets.isEmpty() && result.skippedTargets.isEmpty();
+
+            LOG.info("Migrated " + (result.results.size() - result.failedTargets.size()) + " target(s) successfully"
+                             + (result.failedTargets.isEmpty() ? "" : ", " + result.failedTargets.size() + " failed: " + result.failedTargets)
+                             + (result.skippedTargets.isEmpty() ? "" : ", " + result.skippedTargets.size() + " skipped"));
+            return result;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Lets this target reuse the scan of a previous target that resolves migrations the same way, i.e. with the same
+     * class loader, locations and encoding settings, as the customizer of each target may have changed them. Targets
+     * with cacheResolvedMigrations enabled already share their scans through the resolution cache and are left alone.
+     */
+    private static void shareScanner(FluentConfiguration targetConfiguration,
+                                     Map<ClassLoader, Map<String, Scanner<JavaMigration>>> scanners) {
+        if (targetConfiguration.getResourceProvider() != null && targetConfiguration.getJavaMigrationClassProvider() != null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(targetConfiguration.getModernConfig().getFlyway().getCacheResolvedMigrations())) {
+            return;
+        }
+
+        String key = Arrays.toString(targetConfiguration.getLocations())
+                + "|" + targetConfiguration.getEncoding()
+                + "|" + targetConfiguration.isDetectEncoding()
+                + "|" + targetConfiguration.isFailOnMissingLocations();
+        Scanner<JavaMigration> scanner = scanners
+                .computeIfAbsent(targetConfiguration.getClassLoader(), classLoader -> new HashMap<>())
+                .computeIfAbsent(key, k -> new Scanner<>(JavaMigration.class, false, new ResourceNameCache(),
+                                                         new LocationScannerCache(), targetConfiguration));
+        if (targetConfiguration.getResourceProvider() == null) {
+            targetConfiguration.resourceProvider(scanner);
+        }
+        if (targetConfiguration.getJavaMigrationClassProvider() == null) {
+            targetConfiguration.javaMigrationClassProvider(scanner);
+        }
+    }
+
+    /**
+     * @return The result of migrating the target, or {@code null} if it was skipped.
+     */
+    private MigrateResult migrate(String name, Flyway flyway, AtomicBoolean failed) {
+        if (failurePolicy == FailurePolicy.FAIL_FAST && failed.get()) {
+            return null;
+        }
+
+        try {
+            return flyway.migrate();
+        } catch (FlywayMigrateException e) {
+            failed.set(true);
+            LOG.error("Migration of target " + name + " failed: " + e.getMessage());
+            return e.getErrorResult();
+        } catch (Exception e) {
+            failed.set(true);
+            LOG.error("Migration of target " + name + " failed: " + e.getMessage());
+            return new MigrateErrorResult(new MigrateResult(), e);
+        }
+    }
+
+    private static MigrateResult await(Future<MigrateResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while migrating targets", e);
+        } catch (ExecutionException e) {
+            throw new FlywayException("Unable to migrate target", e.getCause());
+        }
+    }
+}
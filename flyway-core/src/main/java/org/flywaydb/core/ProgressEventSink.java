@@ -0,0 +1,181 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A shared destination for JSON progress events. Events are written as newline-delimited JSON through a single
+ * reusable generator into a buffered stream, which is flushed after every event.
+ * <p>
+ * A sink is shared by all the commands writing to the same target at the same time. It is opened by the first
+ * {@link #acquire(String)} and closed by the last {@link #release()}. A sink that failed to write is discarded, so
+ * the next command opens the target again.
+ */
+@CustomLog
+public class ProgressEventSink {
+    public static final String STDERR = "stderr";
+    private static final String TCP_PREFIX = "tcp://";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Map<String, ProgressEventSink> SINKS = new HashMap<>();
+
+    private final String target;
+    private final JsonGenerator generator;
+    private final Closeable resource;
+    private int users;
+    private boolean failed;
+    private boolean closed;
+
+    private ProgressEventSink(String target, OutputStream outputStream, Closeable resource) throws IOException {
+        this.target = target;
+        this.generator = JSON_FACTORY.createGenerator(new BufferedOutputStream(outputStream, 8192), JsonEncoding.UTF8);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.resource = resource;
+    }
+
+    /**
+     * Gets the shared sink for this target, opening it if necessary. Every call must be matched by a call to
+     * {@link #release()} once the caller is done writing.
+     *
+     * @param target {@code stderr} (or {@code null}), {@code tcp://host:port} or the path of a file to append to.
+     * @return The sink.
+     */
+    public static ProgressEventSink acquire(String target) {
+        String key = target == null || target.isEmpty() ? STDERR : target;
+        synchronized (SINKS) {
+            ProgressEventSink sink = SINKS.computeIfAbsent(key, ProgressEventSink::open);
+            sink.users++;
+            return sink;
+        }
+    }
+
+    private static ProgressEventSink open(String target) {
+        try {
+            if (STDERR.equalsIgnoreCase(target)) {
+                return new ProgressEventSink(target, new StandardErrorOutputStream(), null);
+            }
+            if (target.startsWith(TCP_PREFIX)) {
+                String hostAndPort = target.substring(TCP_PREFIX.length());
+                int separator = hostAndPort.lastIndexOf(':');
+                if (separator < 0) {
+                    throw new FlywayException("Invalid progress target '" + target + "'. Expected tcp://host:port");
+                }
+                Socket socket = new Socket(hostAndPort.substring(0, separator), Integer.parseInt(hostAndPort.substring(separator + 1)));
+                return new ProgressEventSink(target, socket.getOutputStream(), socket);
+            }
+            FileOutputStream fileOutputStream = new FileOutputStream(target, true);
+            return new ProgressEventSink(target, fileOutputStream, fileOutputStream);
+        } catch (IOException | NumberFormatException e) {
+            throw new FlywayException("Unable to open progress target '" + target + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes this progress event as a single line of JSON.
+     */
+    public synchronized void write(ProgressModel progressModel) {
+        if (failed || closed) {
+            return;
+        }
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("operation", progressModel.getOperation());
+            generator.writeNumberField("step", progressModel.getStep());
+            if (progressModel.getTotalSteps() != null) {
+                generator.writeNumberField("totalSteps", progressModel.getTotalSteps());
+            }
+            generator.writeStringField("message", progressModel.getMessage());
+            generator.writeStringField("tag", progressModel.getTag());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        } catch (IOException e) {
+            failed = true;
+            synchronized (SINKS) {
+                SINKS.remove(target, this);
+            }
+            LOG.warn("Unable to write progress to " + target + ", progress output disabled until the next command: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Releases this sink, closing it once no caller uses it anymore.
+     */
+    public void release() {
+        synchronized (SINKS) {
+            if (--users > 0) {
+                return;
+            }
+            SINKS.remove(target, this);
+        }
+        close();
+    }
+
+    private synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!failed) {
+                generator.close();
+            }
+            if (resource != null) {
+                resource.close();
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to close progress target " + target + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes to the current {@link System#err}, so that it can be redirected at any time.
+     */
+    private static class StandardErrorOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+            System.err.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            System.err.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            System.err.flush();
+        }
+    }
+}
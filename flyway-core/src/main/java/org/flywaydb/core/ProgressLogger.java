@@ -19,7 +19,7 @@
  */
 package org.flywaydb.core;
 
-public interface ProgressLogger {
+public interface ProgressLogger extends AutoCloseable {
     ProgressLogger subTask(String operationName);
 
     ProgressLogger pushSteps(int steps);
@@ -27,4 +27,11 @@ public interface ProgressLogger {
     void log(String message);
 
     void log(String message, int step);
+
+    /**
+     * Writes any progress held back and releases the resources of this logger. Sub tasks share the resources of the
+     * logger they were created from.
+     */
+    @Override
+    default void close() {}
 }
@@ -19,39 +19,90 @@
  */
 package org.flywaydb.core;
 
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import lombok.CustomLog;
-import lombok.SneakyThrows;
-
-@CustomLog
 public class ProgressLoggerJson implements ProgressLogger {
     private final ProgressModel progressModel = new ProgressModel();
-    private final JsonMapper jsonMapper = new JsonMapper();
+    private final ProgressEventSink sink;
+    /**
+     * Whether this logger acquired the sink and must release it when closed. Sub tasks borrow the sink of their parent.
+     */
+    private final boolean ownsSink;
+    /**
+     * The minimum time between two events of this operation. Events arriving faster are coalesced: only the latest of
+     * them is kept, and it is superseded by the next event written or written when the logger is closed. The final step
+     * is always written immediately.
+     */
+    private final long minIntervalMillis;
+    private long lastWritten = -1;
+    private ProgressModel pending;
 
     public ProgressLogger subTask(String operationName) {
-        return new ProgressLoggerJson(this.progressModel.getOperation() + "." + operationName);
+        return new ProgressLoggerJson(this.progressModel.getOperation() + "." + operationName, sink, false, minIntervalMillis);
     }
 
     public ProgressLoggerJson(String operationName) {
+        this(operationName, ProgressEventSink.STDERR, 0);
+    }
+
+    public ProgressLoggerJson(String operationName, String target, long minIntervalMillis) {
+        this(operationName, ProgressEventSink.acquire(target), true, minIntervalMillis);
+    }
+
+    private ProgressLoggerJson(String operationName, ProgressEventSink sink, boolean ownsSink, long minIntervalMillis) {
+        this.sink = sink;
+        this.ownsSink = ownsSink;
+        this.minIntervalMillis = minIntervalMillis;
         progressModel.setOperation(operationName);
     }
 
-    @SneakyThrows
     public void log(String message) {
         progressModel.setMessage(message);
-        System.err.println(jsonMapper.writeValueAsString(progressModel));
+        write();
         progressModel.setStepAndTotal(progressModel.getStep() + 1);
     }
 
-    @SneakyThrows
     public void log(String message, int step) {
         progressModel.setMessage(message);
         progressModel.setStepAndTotal(step);
-        System.err.println(jsonMapper.writeValueAsString(progressModel));
+        write();
     }
 
     public ProgressLogger pushSteps(int steps) {
         progressModel.setTotalSteps(progressModel.getTotalSteps() == null ? steps : steps + progressModel.getTotalSteps());
         return this;
     }
+
+    @Override
+    public void close() {
+        if (pending != null) {
+            sink.write(pending);
+            pending = null;
+        }
+        if (ownsSink) {
+            sink.release();
+        }
+    }
+
+    private void write() {
+        if (minIntervalMillis > 0) {
+            long now = System.currentTimeMillis();
+            boolean finalStep = progressModel.getTotalSteps() != null && progressModel.getStep() >= progressModel.getTotalSteps();
+            if (lastWritten >= 0 && now - lastWritten < minIntervalMillis && !finalStep) {
+                pending = copy(progressModel);
+                return;
+            }
+            lastWritten = now;
+            pending = null;
+        }
+        sink.write(progressModel);
+    }
+
+    private static ProgressModel copy(ProgressModel progressModel) {
+        ProgressModel copy = new ProgressModel();
+        copy.setOperation(progressModel.getOperation());
+        copy.setStep(progressModel.getStep());
+        copy.setTotalSteps(progressModel.getTotalSteps());
+        copy.setMessage(progressModel.getMessage());
+        copy.setTag(progressModel.getTag());
+        return copy;
+    }
 }
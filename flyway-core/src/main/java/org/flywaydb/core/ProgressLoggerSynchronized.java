@@ -50,4 +50,10 @@ public class ProgressLoggerSynchronized implements ProgressLogger {
     public void log(String message, int step) {
         progressLogger.log(message, step);
     }
+
+    @Override
+    @Synchronized
+    public void close() {
+        progressLogger.close();
+    }
 }
@@ -22,9 +22,9 @@ package org.flywaydb.core.api;
 import lombok.Getter;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MigrationVersion implements Comparable<MigrationVersion> {
     /**
@@ -45,13 +45,28 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
     public static final MigrationVersion NEXT = new MigrationVersion(BigInteger.valueOf(-3), "<< Next Version >>");
 
     /**
-     * Regex for matching proper version format
+     * The maximum number of parsed versions to keep in the intern cache.
      */
-    private static final Pattern SPLIT_REGEX = Pattern.compile("\\.(?=\\d)");
+    private static final int MAX_CACHE_SIZE = 100_000;
     /**
-     * The individual parts this version string is composed of. Ex. 1.2.3.4.0 -> [1, 2, 3, 4, 0]
+     * Cache of parsed versions, keyed by their raw version string. The same versions are parsed over and over again
+     * while reading the schema history and resolving migrations, so they are only parsed once.
      */
-    private final List<BigInteger> versionParts;
+    private static final Map<String, MigrationVersion> CACHE = new ConcurrentHashMap<>();
+    /**
+     * The longest part that is guaranteed to fit in a long without overflowing.
+     */
+    private static final int MAX_LONG_PART_LENGTH = 18;
+
+    /**
+     * The individual parts this version string is composed of, if they all fit in a long. Ex. 1.2.3.4.0 -> [1, 2, 3, 4]
+     */
+    private final long[] versionParts;
+    /**
+     * The individual parts this version string is composed of, if at least one of them does not fit in a long.
+     * {@code null} otherwise.
+     */
+    private final BigInteger[] bigVersionParts;
     /**
      * The printable text to represent the version.
      */
@@ -78,6 +93,13 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     @SuppressWarnings("ConstantConditions")
     public static MigrationVersion fromVersion(String version) {
+        if (version == null) {
+            return EMPTY;
+        }
+        MigrationVersion cached = CACHE.get(version);
+        if (cached != null) {
+            return cached;
+        }
         if ("current".equalsIgnoreCase(version)) {
             return CURRENT;
         }
@@ -87,10 +109,11 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if ("latest".equalsIgnoreCase(version) || LATEST.getVersion().equals(version)) {
             return LATEST;
         }
-        if (version == null) {
-            return EMPTY;
+        MigrationVersion migrationVersion = new MigrationVersion(version);
+        if (CACHE.size() < MAX_CACHE_SIZE) {
+            CACHE.putIfAbsent(version, migrationVersion);
         }
-        return new MigrationVersion(version);
+        return migrationVersion;
     }
 
     /**
@@ -101,7 +124,9 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     private MigrationVersion(String version) {
         String normalizedVersion = version.replace('_', '.');
-        this.versionParts = tokenize(normalizedVersion);
+        BigInteger[] parts = tokenize(normalizedVersion);
+        this.bigVersionParts = fitsInLongs(parts) ? null : parts;
+        this.versionParts = bigVersionParts == null ? toLongs(parts) : null;
         this.displayText = normalizedVersion;
         this.rawVersion = version;
     }
@@ -112,8 +137,8 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @param displayText The alternative text to display instead of the version number.
      */
     private MigrationVersion(BigInteger version, String displayText) {
-        this.versionParts = new ArrayList<>();
-        this.versionParts.add(version);
+        this.versionParts = version == null ? null : new long[] { version.longValue() };
+        this.bigVersionParts = null;
         this.displayText = displayText;
         this.rawVersion = displayText;
         this.predefined = true;
@@ -169,7 +194,10 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
 
     @Override
     public int hashCode() {
-        return versionParts == null ? 0 : versionParts.hashCode();
+        if (bigVersionParts != null) {
+            return Arrays.hashCode(bigVersionParts);
+        }
+        return Arrays.hashCode(versionParts);
     }
 
     /**
@@ -216,24 +244,24 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return The major version.
      */
     public BigInteger getMajor() {
-        return versionParts.get(0);
+        return getPart(0);
     }
 
     /**
      * @return The major version as a string.
      */
     public String getMajorAsString() {
-        return versionParts.get(0).toString();
+        return getPart(0).toString();
     }
 
     /**
      * @return The minor version as a string.
      */
     public String getMinorAsString() {
-        if (versionParts.size() == 1) {
+        if (getNumberOfParts() == 1) {
             return "0";
         }
-        return versionParts.get(1).toString();
+        return getPart(1).toString();
     }
 
     @Override
@@ -277,11 +305,23 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if (o == LATEST) {
             return -1;
         }
-        final List<BigInteger> parts1 = versionParts;
-        final List<BigInteger> parts2 = o.versionParts;
-        int largestNumberOfParts = Math.max(parts1.size(), parts2.size());
+
+        if (bigVersionParts == null && o.bigVersionParts == null) {
+            final long[] parts1 = versionParts;
+            final long[] parts2 = o.versionParts;
+            int largestNumberOfParts = Math.max(parts1.length, parts2.length);
+            for (int i = 0; i < largestNumberOfParts; i++) {
+                final int compared = Long.compare(i < parts1.length ? parts1[i] : 0, i < parts2.length ? parts2[i] : 0);
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return 0;
+        }
+
+        int largestNumberOfParts = Math.max(getNumberOfParts(), o.getNumberOfParts());
         for (int i = 0; i < largestNumberOfParts; i++) {
-            final int compared = getOrZero(parts1, i).compareTo(getOrZero(parts2, i));
+            final int compared = getPartOrZero(i).compareTo(o.getPartOrZero(i));
             if (compared != 0) {
                 return compared;
             }
@@ -289,37 +329,91 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         return 0;
     }
 
-    private BigInteger getOrZero(List<BigInteger> elements, int i) {
-        return i < elements.size() ? elements.get(i) : BigInteger.ZERO;
+    private int getNumberOfParts() {
+        return bigVersionParts != null ? bigVersionParts.length : versionParts.length;
+    }
+
+    private BigInteger getPart(int i) {
+        if (bigVersionParts != null) {
+            return bigVersionParts[i];
+        }
+        return versionParts == null ? null : BigInteger.valueOf(versionParts[i]);
+    }
+
+    private BigInteger getPartOrZero(int i) {
+        return i < getNumberOfParts() ? getPart(i) : BigInteger.ZERO;
     }
 
     /**
-     * Splits this string into list of BigIntegers
+     * Splits this string into its parts. A dot only separates two parts when it is followed by a digit.
      *
      * @param versionStr The string to split.
-     * @return The resulting array.
+     * @return The resulting array, without trailing zero parts.
      */
-    private List<BigInteger> tokenize(String versionStr) {
-        List<BigInteger> parts = new ArrayList<>();
-        for (String part : SPLIT_REGEX.split(versionStr)) {
-            parts.add(toBigInteger(versionStr, part));
+    private static BigInteger[] tokenize(String versionStr) {
+        int numberOfParts = 1;
+        for (int i = 0; i < versionStr.length() - 1; i++) {
+            if (isSeparator(versionStr, i)) {
+                numberOfParts++;
+            }
         }
 
-        for (int i = parts.size() - 1; i > 0; i--) {
-            if (!parts.get(i).equals(BigInteger.ZERO)) {
-                break;
+        BigInteger[] parts = new BigInteger[numberOfParts];
+        int part = 0;
+        int partStart = 0;
+        for (int i = 0; i < versionStr.length() - 1; i++) {
+            if (isSeparator(versionStr, i)) {
+                parts[part++] = toBigInteger(versionStr, partStart, i);
+                partStart = i + 1;
             }
-            parts.remove(i);
         }
+        parts[part] = toBigInteger(versionStr, partStart, versionStr.length());
 
-        return parts;
+        int length = parts.length;
+        while (length > 1 && parts[length - 1].signum() == 0) {
+            length--;
+        }
+        return length == parts.length ? parts : Arrays.copyOf(parts, length);
+    }
+
+    private static boolean isSeparator(String versionStr, int i) {
+        char next = versionStr.charAt(i + 1);
+        return versionStr.charAt(i) == '.' && next >= '0' && next <= '9';
     }
 
-    private BigInteger toBigInteger(String versionStr, String part) {
+    private static BigInteger toBigInteger(String versionStr, int start, int end) {
+        if (end > start && end - start <= MAX_LONG_PART_LENGTH) {
+            long value = 0;
+            int i = start;
+            while (i < end && versionStr.charAt(i) >= '0' && versionStr.charAt(i) <= '9') {
+                value = value * 10 + (versionStr.charAt(i) - '0');
+                i++;
+            }
+            if (i == end) {
+                return BigInteger.valueOf(value);
+            }
+        }
         try {
-            return new BigInteger(part);
+            return new BigInteger(versionStr.substring(start, end));
         } catch (NumberFormatException e) {
             throw new FlywayException("Version may only contain 0..9 and . (dot). Invalid version: " + versionStr);
         }
     }
+
+    private static boolean fitsInLongs(BigInteger[] parts) {
+        for (BigInteger part : parts) {
+            if (part.bitLength() > 63) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] toLongs(BigInteger[] parts) {
+        long[] longs = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            longs[i] = parts[i].longValue();
+        }
+        return longs;
+    }
 }
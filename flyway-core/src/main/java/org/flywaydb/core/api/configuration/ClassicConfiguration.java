@@ -1801,6 +1801,54 @@ public class ClassicConfiguration implements Configuration {
         if (outputType != null) {
             getModernFlyway().setOutputType(outputType);
         }
+        String progressTarget = props.remove(ConfigUtils.PROGRESS_TARGET);
+        if (progressTarget != null) {
+            getModernFlyway().setProgressTarget(progressTarget);
+        }
+        Integer progressMinInterval = removeInteger(props, ConfigUtils.PROGRESS_MIN_INTERVAL);
+        if (progressMinInterval != null) {
+            getModernFlyway().setProgressMinInterval(progressMinInterval);
+        }
+        Integer eventConnectionIdleTimeout = removeInteger(props, ConfigUtils.EVENT_CONNECTION_IDLE_TIMEOUT);
+        if (eventConnectionIdleTimeout != null) {
+            getModernFlyway().setEventConnectionIdleTimeout(eventConnectionIdleTimeout);
+        }
+        Integer resolveParallelism = removeInteger(props, ConfigUtils.RESOLVE_PARALLELISM);
+        if (resolveParallelism != null) {
+            getModernFlyway().setResolveParallelism(resolveParallelism);
+        }
+        Boolean cacheResolvedMigrations = removeBoolean(props, ConfigUtils.CACHE_RESOLVED_MIGRATIONS);
+        if (cacheResolvedMigrations != null) {
+            getModernFlyway().setCacheResolvedMigrations(cacheResolvedMigrations);
+        }
+        Boolean cacheSchemaHistory = removeBoolean(props, ConfigUtils.CACHE_SCHEMA_HISTORY);
+        if (cacheSchemaHistory != null) {
+            getModernFlyway().setCacheSchemaHistory(cacheSchemaHistory);
+        }
+        Integer lockHeartbeatInterval = removeInteger(props, ConfigUtils.LOCK_HEARTBEAT_INTERVAL);
+        if (lockHeartbeatInterval != null) {
+            getModernFlyway().setLockHeartbeatInterval(lockHeartbeatInterval);
+        }
+        Boolean reportAppendOnly = removeBoolean(props, ConfigUtils.REPORT_APPEND_ONLY);
+        if (reportAppendOnly != null) {
+            getModernFlyway().setReportAppendOnly(reportAppendOnly);
+        }
+        Integer reportRetention = removeInteger(props, ConfigUtils.REPORT_RETENTION);
+        if (reportRetention != null) {
+            getModernFlyway().setReportRetention(reportRetention);
+        }
+        Integer reportHtmlRuns = removeInteger(props, ConfigUtils.REPORT_HTML_RUNS);
+        if (reportHtmlRuns != null) {
+            getModernFlyway().setReportHtmlRuns(reportHtmlRuns);
+        }
+        Boolean parseAhead = removeBoolean(props, ConfigUtils.PARSE_AHEAD);
+        if (parseAhead != null) {
+            getModernFlyway().setParseAhead(parseAhead);
+        }
+        Boolean streamTableOutput = removeBoolean(props, ConfigUtils.STREAM_TABLE_OUTPUT);
+        if (streamTableOutput != null) {
+            getModernFlyway().setStreamTableOutput(streamTableOutput);
+        }
         String locationsProp = props.remove(ConfigUtils.LOCATIONS);
         if (locationsProp != null) {
             setLocationsAsStrings(StringUtils.tokenizeToStringArray(locationsProp, ","));
@@ -2179,7 +2227,10 @@ public class ClassicConfiguration implements Configuration {
     @Override
     public ProgressLogger createProgress(String operationName) {
         if (getModernFlyway().getOutputProgress() && "json".equalsIgnoreCase(getModernFlyway().getOutputType())) {
-            return new ProgressLoggerJson(operationName);
+            Integer progressMinInterval = getModernFlyway().getProgressMinInterval();
+            return new ProgressLoggerJson(operationName,
+                getModernFlyway().getProgressTarget(),
+                progressMinInterval == null ? 0 : progressMinInterval);
         } else {
             return new ProgressLoggerEmpty();
         }
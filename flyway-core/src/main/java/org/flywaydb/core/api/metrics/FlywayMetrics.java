@@ -0,0 +1,134 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Publishes metrics about the phases of Flyway's work to the registered {@link MetricsRecorder}. Nothing is measured
+ * until a recorder is registered, so the cost of the instrumentation is a single field read per call.
+ *
+ * <pre>
+ * FlywayMetrics.setRecorder(new JmxMetricsRecorder());
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FlywayMetrics {
+    /**
+     * Timer: scanning the configured locations for resources and classes.
+     */
+    public static final String SCAN = "flyway.scan";
+    /**
+     * Distribution: the number of resources found by a scan.
+     */
+    public static final String SCAN_RESOURCES = "flyway.scan.resources";
+    /**
+     * Timer: calculating the checksum of a migration.
+     */
+    public static final String CHECKSUM = "flyway.checksum";
+    /**
+     * Timer: parsing a single SQL statement.
+     */
+    public static final String PARSE = "flyway.parse";
+    /**
+     * Timer: waiting to acquire the lock on the schema history table.
+     */
+    public static final String LOCK_WAIT = "flyway.lock.wait";
+    /**
+     * Timer: holding a schema history table lock row.
+     */
+    public static final String LOCK_HOLD = "flyway.lock.hold";
+    /**
+     * Counter: heartbeats that failed to refresh a held schema history table lock row.
+     */
+    public static final String LOCK_HEARTBEAT_ERRORS = "flyway.lock.heartbeat.errors";
+    /**
+     * Timer: reading new rows from the schema history table.
+     */
+    public static final String SCHEMA_HISTORY_READ = "flyway.schemahistory.read";
+    /**
+     * Distribution: the number of rows read from the schema history table by a single read.
+     */
+    public static final String SCHEMA_HISTORY_ROWS = "flyway.schemahistory.rows";
+    /**
+     * Timer: handling an event by a single callback.
+     */
+    public static final String CALLBACK = "flyway.callback";
+    /**
+     * Timer: executing a single SQL statement, or a batch of statements when batching is enabled.
+     */
+    public static final String STATEMENT_EXECUTE = "flyway.statement.execute";
+    /**
+     * Counter: SQL statements that failed to execute.
+     */
+    public static final String STATEMENT_ERRORS = "flyway.statement.errors";
+
+    private static volatile MetricsRecorder recorder = MetricsRecorder.NOOP;
+
+    /**
+     * Registers the recorder receiving all metrics published by Flyway in this JVM from now on.
+     *
+     * @param metricsRecorder The recorder, or {@code null} to stop recording metrics.
+     */
+    public static void setRecorder(MetricsRecorder metricsRecorder) {
+        recorder = metricsRecorder == null ? MetricsRecorder.NOOP : metricsRecorder;
+    }
+
+    public static MetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return The value to pass to {@link #stop(String, long)}, or {@code 0} if no recorder is registered.
+     */
+    public static long start() {
+        return recorder == MetricsRecorder.NOOP ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Stops timing a phase started with {@link #start()} and records its duration.
+     */
+    public static void stop(String name, long start) {
+        if (start != 0) {
+            recorder.recordTime(name, System.nanoTime() - start);
+        }
+    }
+
+    public static void increment(String name) {
+        increment(name, 1);
+    }
+
+    public static void increment(String name, long amount) {
+        MetricsRecorder current = recorder;
+        if (current != MetricsRecorder.NOOP) {
+            current.increment(name, amount);
+        }
+    }
+
+    public static void recordValue(String name, long value) {
+        MetricsRecorder current = recorder;
+        if (current != MetricsRecorder.NOOP) {
+            current.recordValue(name, value);
+        }
+    }
+}
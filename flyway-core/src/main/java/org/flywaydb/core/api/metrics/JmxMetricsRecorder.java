@@ -0,0 +1,178 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import lombok.CustomLog;
+
+/**
+ * Exposes the metrics published by Flyway as MBeans of the platform MBean server, named
+ * {@code org.flywaydb:type=Metrics,name=<metric name>}. Each MBean provides the count, total, minimum, maximum and
+ * mean of the values recorded for its metric; durations are in milliseconds.
+ * <p>
+ * Failing to register an MBean never fails the operation being measured: the metric is then still recorded, but not
+ * exposed. An MBean already registered under the same name, e.g. by another recorder, is left in place.
+ */
+@CustomLog
+public class JmxMetricsRecorder implements MetricsRecorder {
+    private static final String DOMAIN = "org.flywaydb";
+    private static final double NANOS_PER_MILLI = 1_000_000;
+
+    private final MBeanServer server;
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    public JmxMetricsRecorder() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxMetricsRecorder(MBeanServer server) {
+        this.server = server;
+    }
+
+    @Override
+    public void recordTime(String name, long durationNanos) {
+        getMetric(name, NANOS_PER_MILLI).record(durationNanos);
+    }
+
+    @Override
+    public void increment(String name, long amount) {
+        getMetric(name, 1).record(amount);
+    }
+
+    @Override
+    public void recordValue(String name, long value) {
+        getMetric(name, 1).record(value);
+    }
+
+    /**
+     * Unregisters all MBeans registered by this recorder.
+     */
+    public void unregister() {
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            if (!entry.getValue().registered) {
+                continue;
+            }
+            try {
+                ObjectName objectName = getObjectName(entry.getKey());
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (JMException ignored) {
+            }
+        }
+        metrics.clear();
+    }
+
+    private Metric getMetric(String name, double scale) {
+        Metric metric = metrics.get(name);
+        return metric != null ? metric : metrics.computeIfAbsent(name, n -> register(n, scale));
+    }
+
+    private Metric register(String name, double scale) {
+        Metric metric = new Metric(scale);
+        try {
+            ObjectName objectName = getObjectName(name);
+            if (server.isRegistered(objectName)) {
+                LOG.debug("An MBean is already registered for metric " + name + ", not exposing it");
+                return metric;
+            }
+            server.registerMBean(new StandardMBean(metric, MetricMBean.class), objectName);
+            metric.registered = true;
+        } catch (JMException | RuntimeException e) {
+            LOG.debug("Unable to register MBean for metric " + name + ", not exposing it: " + e.getMessage());
+        }
+        return metric;
+    }
+
+    private static ObjectName getObjectName(String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=Metrics,name=" + ObjectName.quote(name));
+    }
+
+    public interface MetricMBean {
+        long getCount();
+
+        double getTotal();
+
+        double getMin();
+
+        double getMax();
+
+        double getMean();
+    }
+
+    private static class Metric implements MetricMBean {
+        /**
+         * The number of recorded units in each reported unit, e.g. nanoseconds per millisecond for timers.
+         */
+        private final double scale;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+        /**
+         * Whether this recorder registered the MBean of this metric, and so has to unregister it.
+         */
+        private volatile boolean registered;
+
+        Metric(double scale) {
+            this.scale = scale;
+        }
+
+        void record(long value) {
+            count.incrementAndGet();
+            total.addAndGet(value);
+            min.accumulateAndGet(value, Math::min);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        @Override
+        public long getCount() {
+            return count.get();
+        }
+
+        @Override
+        public double getTotal() {
+            return total.get() / scale;
+        }
+
+        @Override
+        public double getMin() {
+            return count.get() == 0 ? 0 : min.get() / scale;
+        }
+
+        @Override
+        public double getMax() {
+            return count.get() == 0 ? 0 : max.get() / scale;
+        }
+
+        @Override
+        public double getMean() {
+            long n = count.get();
+            return n == 0 ? 0 : total.get() / scale / n;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.metrics;
+
+/**
+ * Receives the metrics published by Flyway. This maps directly onto the timers, counters and distribution summaries
+ * of metrics libraries such as Micrometer. Implementations must be thread-safe and fast, as they are called from
+ * Flyway's hot paths, potentially once per parsed or executed statement.
+ *
+ * <p>Metric names are the constants of {@link FlywayMetrics}.</p>
+ */
+public interface MetricsRecorder {
+    /**
+     * The recorder used when none is registered, which discards all metrics.
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() {};
+
+    /**
+     * Records the duration of one occurrence of a timed phase.
+     *
+     * @param name The name of the timer.
+     * @param durationNanos The duration in nanoseconds.
+     */
+    default void recordTime(String name, long durationNanos) {
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param name The name of the counter.
+     * @param amount The amount to add.
+     */
+    default void increment(String name, long amount) {
+    }
+
+    /**
+     * Records a value in a distribution (histogram), such as the number of rows read.
+     *
+     * @param name The name of the distribution.
+     * @param value The value to record.
+     */
+    default void recordValue(String name, long value) {
+    }
+}
@@ -76,7 +76,7 @@ public class BaselineMigrationResolver implements MigrationResolver {
                                ResourceProvider resourceProvider,
                                SqlScriptFactory sqlScriptFactory,
                                SqlScriptExecutorFactory sqlScriptExecutorFactory) {
-        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
 
         for (LoadableResource resource : resourceProvider.getResources(prefix, configuration.getSqlMigrationSuffixes())) {
             String filename = resource.getFilename();
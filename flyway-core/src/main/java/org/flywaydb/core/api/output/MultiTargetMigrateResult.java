@@ -0,0 +1,45 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.output;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The aggregated result of migrating several targets with a {@link org.flywaydb.core.MultiTargetRunner}.
+ */
+public class MultiTargetMigrateResult implements OperationResult {
+    /**
+     * The result of each target that was migrated, in the order the targets were added. Targets that failed map to a
+     * {@link MigrateErrorResult}.
+     */
+    public Map<String, MigrateResult> results = new LinkedHashMap<>();
+    /**
+     * The targets that failed.
+     */
+    public List<String> failedTargets = new LinkedList<>();
+    /**
+     * The targets that were not migrated because an earlier target failed with the fail-fast policy.
+     */
+    public List<String> skippedTargets = new LinkedList<>();
+    public boolean success;
+}
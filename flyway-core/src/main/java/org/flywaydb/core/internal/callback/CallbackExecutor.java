@@ -52,6 +52,11 @@ public interface CallbackExecutor {
      */
     void setMigrationInfo(MigrationInfo migrationInfo);
 
+    /**
+     * @return The current migration info, or {@code null} if no migration is being executed.
+     */
+    MigrationInfo getMigrationInfo();
+
     /**
      * Executes the callbacks for an "each" event within the same transaction (if any) as the main operation.
      *
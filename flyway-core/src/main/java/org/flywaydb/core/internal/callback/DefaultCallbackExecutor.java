@@ -26,6 +26,7 @@ import org.flywaydb.core.api.callback.Error;
 import org.flywaydb.core.api.callback.*;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.exception.FlywayBlockStatementExecutionException;
+import org.flywaydb.core.api.metrics.FlywayMetrics;
 import org.flywaydb.core.api.output.OperationResult;
 import org.flywaydb.core.extensibility.EventTelemetryModel;
 import org.flywaydb.core.internal.database.base.Connection;
@@ -80,7 +81,7 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
 
         if (callbacks.stream().anyMatch(callback -> callback.supports(event, null))) {
             execute(event, database.getEventConnection());
-            database.disposeEventConnection();
+            database.releaseEventConnection();
         }
     }
 
@@ -89,6 +90,11 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
         this.migrationInfo = migrationInfo;
     }
 
+    @Override
+    public MigrationInfo getMigrationInfo() {
+        return migrationInfo;
+    }
+
     @Override
     public void onEachMigrateOrUndoEvent(Event event) {
         final Context context = new SimpleContext(configuration, database.getMigrationConnection(), migrationInfo, null);
@@ -142,12 +148,15 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
     }
 
     private void handleEvent(Callback callback, Event event, Context context) {
+        long metricsStart = FlywayMetrics.start();
         try (EventTelemetryModel telemetryModel = new EventTelemetryModel(event.getId(), flywayTelemetryManager)) {
             callback.handle(event, context);
         } catch (FlywayBlockStatementExecutionException e) {
             throw e;
         } catch (Exception e) {
             throw new FlywayException("Error while executing " + event.getId() + " callback: " + e.getMessage(), e);
+        } finally {
+            FlywayMetrics.stop(FlywayMetrics.CALLBACK, metricsStart);
         }
     }
 }
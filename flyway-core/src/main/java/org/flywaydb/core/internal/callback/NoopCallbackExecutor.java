@@ -45,6 +45,11 @@ public enum NoopCallbackExecutor implements CallbackExecutor {
     public void setMigrationInfo(MigrationInfo migrationInfo) {
     }
 
+    @Override
+    public MigrationInfo getMigrationInfo() {
+        return null;
+    }
+
     @Override
     public void onEachMigrateOrUndoEvent(Event event) {
     }
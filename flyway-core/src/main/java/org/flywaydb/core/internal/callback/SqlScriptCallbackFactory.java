@@ -60,7 +60,7 @@ public class SqlScriptCallbackFactory {
 
         LOG.debug("Scanning for SQL callbacks ...");
         Collection<LoadableResource> resources = resourceProvider.getResources("", configuration.getSqlMigrationSuffixes());
-        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
 
         for (LoadableResource resource : resources) {
             ResourceName parsedName = resourceNameParser.parse(resource.getFilename());
@@ -39,6 +39,7 @@ import org.flywaydb.core.internal.exception.FlywayMigrateException;
 import org.flywaydb.core.internal.info.MigrationInfoImpl;
 import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
 import org.flywaydb.core.internal.jdbc.ExecutionTemplateFactory;
+import org.flywaydb.core.internal.jfr.MigrationEvent;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
 import org.flywaydb.core.internal.util.*;
@@ -68,7 +69,7 @@ public class DbMigrate {
      */
     private boolean isPreviousVersioned;
     private final List<ResolvedMigration> appliedResolvedMigrations = new ArrayList<>();
-    private final ProgressLogger progress;
+    private ProgressLogger progress;
 
     public DbMigrate(Database database,
                      SchemaHistory schemaHistory, Schema schema, CompositeMigrationResolver migrationResolver,
@@ -80,7 +81,6 @@ public class DbMigrate {
         this.migrationResolver = migrationResolver;
         this.configuration = configuration;
         this.callbackExecutor = callbackExecutor;
-        this.progress = configuration.createProgress("migrate");
     }
 
     /**
@@ -94,7 +94,8 @@ public class DbMigrate {
                                                                  configuration);
 
         int count;
-        try {
+        try (ProgressLogger progress = configuration.createProgress("migrate")) {
+            this.progress = progress;
 
             count = configuration.isGroup() ?
                     // When group is active, start the transaction boundary early to
@@ -375,6 +376,9 @@ public class DbMigrate {
                 connectionUserObjects.restoreOriginalState();
                 connectionUserObjects.changeCurrentSchemaTo(schema);
 
+                MigrationEvent event = new MigrationEvent();
+                event.begin();
+                boolean success = false;
                 try {
                     callbackExecutor.setMigrationInfo(migration);
                     callbackExecutor.onEachMigrateOrUndoEvent(Event.BEFORE_EACH_MIGRATE);
@@ -405,8 +409,19 @@ public class DbMigrate {
                     LOG.debug("Successfully completed migration of " + migrationText);
                     progress.log("Successfully completed migration of " + migration.getScript());
                     callbackExecutor.onEachMigrateOrUndoEvent(Event.AFTER_EACH_MIGRATE);
+                    success = true;
                 } finally {
                     callbackExecutor.setMigrationInfo(null);
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.version = migration.getVersion() == null ? null : migration.getVersion().getVersion();
+                        event.description = migration.getDescription();
+                        event.script = migration.getScript();
+                        event.type = migration.getType().name();
+                        event.inTransaction = isExecuteInTransaction;
+                        event.success = success;
+                        event.commit();
+                    }
                 }
             }
 
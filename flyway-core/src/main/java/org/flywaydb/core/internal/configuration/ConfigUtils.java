@@ -104,6 +104,15 @@ public class ConfigUtils {
     public static final String OUTPUT_QUERY_RESULTS = "flyway.outputQueryResults";
     public static final String PASSWORD = "flyway.password";
     public static final String OUTPUT_PROGRESS = "flyway.outputProgress";
+    public static final String PROGRESS_TARGET = "flyway.progressTarget";
+    public static final String PROGRESS_MIN_INTERVAL = "flyway.progressMinInterval";
+    public static final String EVENT_CONNECTION_IDLE_TIMEOUT = "flyway.eventConnectionIdleTimeout";
+    public static final String RESOLVE_PARALLELISM = "flyway.resolveParallelism";
+    public static final String CACHE_RESOLVED_MIGRATIONS = "flyway.cacheResolvedMigrations";
+    public static final String CACHE_SCHEMA_HISTORY = "flyway.cacheSchemaHistory";
+    public static final String LOCK_HEARTBEAT_INTERVAL = "flyway.lockHeartbeatInterval";
+    public static final String PARSE_AHEAD = "flyway.parseAhead";
+    public static final String STREAM_TABLE_OUTPUT = "flyway.streamTableOutput";
     public static final String PLACEHOLDER_PREFIX = "flyway.placeholderPrefix";
     public static final String PLACEHOLDER_REPLACEMENT = "flyway.placeholderReplacement";
     public static final String PLACEHOLDER_SUFFIX = "flyway.placeholderSuffix";
@@ -137,6 +146,9 @@ public class ConfigUtils {
 
     public static final String REPORT_ENABLED = "flyway.reportEnabled";
     public static final String REPORT_FILENAME = "flyway.reportFilename";
+    public static final String REPORT_APPEND_ONLY = "flyway.reportAppendOnly";
+    public static final String REPORT_RETENTION = "flyway.reportRetention";
+    public static final String REPORT_HTML_RUNS = "flyway.reportHtmlRuns";
 
     // Command-line specific
     public static final String JAR_DIRS = "flyway.jarDirs";
@@ -267,6 +279,27 @@ public class ConfigUtils {
         if ("FLYWAY_PASSWORD".equals(key)) {
             return PASSWORD;
         }
+        if ("FLYWAY_EVENT_CONNECTION_IDLE_TIMEOUT".equals(key)) {
+            return EVENT_CONNECTION_IDLE_TIMEOUT;
+        }
+        if ("FLYWAY_CACHE_RESOLVED_MIGRATIONS".equals(key)) {
+            return CACHE_RESOLVED_MIGRATIONS;
+        }
+        if ("FLYWAY_CACHE_SCHEMA_HISTORY".equals(key)) {
+            return CACHE_SCHEMA_HISTORY;
+        }
+        if ("FLYWAY_RESOLVE_PARALLELISM".equals(key)) {
+            return RESOLVE_PARALLELISM;
+        }
+        if ("FLYWAY_LOCK_HEARTBEAT_INTERVAL".equals(key)) {
+            return LOCK_HEARTBEAT_INTERVAL;
+        }
+        if ("FLYWAY_PARSE_AHEAD".equals(key)) {
+            return PARSE_AHEAD;
+        }
+        if ("FLYWAY_STREAM_TABLE_OUTPUT".equals(key)) {
+            return STREAM_TABLE_OUTPUT;
+        }
         if ("FLYWAY_LOCK_RETRY_COUNT".equals(key)) {
             return LOCK_RETRY_COUNT;
         }
@@ -365,6 +398,15 @@ public class ConfigUtils {
         if ("FLYWAY_REPORT_FILENAME".equals(key)) {
             return REPORT_FILENAME;
         }
+        if ("FLYWAY_REPORT_APPEND_ONLY".equals(key)) {
+            return REPORT_APPEND_ONLY;
+        }
+        if ("FLYWAY_REPORT_RETENTION".equals(key)) {
+            return REPORT_RETENTION;
+        }
+        if ("FLYWAY_REPORT_HTML_RUNS".equals(key)) {
+            return REPORT_HTML_RUNS;
+        }
 
         // Command-line specific
         if ("FLYWAY_JAR_DIRS".equals(key)) {
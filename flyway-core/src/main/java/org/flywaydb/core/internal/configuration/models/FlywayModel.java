@@ -39,12 +39,36 @@ public class FlywayModel extends FlywayEnvironmentModel {
     private String environment;
     private String outputType;
     private Boolean outputProgress;
+    private String progressTarget;
+    private Integer progressMinInterval;
+    private Integer eventConnectionIdleTimeout;
+    private Integer resolveParallelism;
+    private Boolean cacheResolvedMigrations;
+    private Boolean cacheSchemaHistory;
+    private Integer lockHeartbeatInterval;
+    private Boolean reportAppendOnly;
+    private Integer reportRetention;
+    private Integer reportHtmlRuns;
+    private Boolean parseAhead;
+    private Boolean streamTableOutput;
     private String provisionMode;
 
     public static FlywayModel defaults(){
         FlywayModel model = new FlywayModel();
         model.environment = "default";
         model.setOutputProgress(false);
+        model.setProgressTarget("stderr");
+        model.setProgressMinInterval(0);
+        model.setEventConnectionIdleTimeout(60);
+        model.setResolveParallelism(1);
+        model.setCacheResolvedMigrations(false);
+        model.setCacheSchemaHistory(false);
+        model.setLockHeartbeatInterval(300);
+        model.setReportAppendOnly(false);
+        model.setReportRetention(0);
+        model.setReportHtmlRuns(10);
+        model.setParseAhead(false);
+        model.setStreamTableOutput(false);
         model.setReportFilename(DEFAULT_REPORT_FILENAME);
         model.setDetectEncoding(false);
         model.setEncoding("UTF-8");
@@ -104,6 +128,18 @@ public class FlywayModel extends FlywayEnvironmentModel {
         FlywayModel result = new FlywayModel();
         result.environment = environment.merge(otherPojo.environment);
         result.outputProgress = outputProgress.merge(otherPojo.outputProgress);
+        result.progressTarget = progressTarget.merge(otherPojo.progressTarget);
+        result.progressMinInterval = progressMinInterval.merge(otherPojo.progressMinInterval);
+        result.eventConnectionIdleTimeout = eventConnectionIdleTimeout.merge(otherPojo.eventConnectionIdleTimeout);
+        result.resolveParallelism = resolveParallelism.merge(otherPojo.resolveParallelism);
+        result.cacheResolvedMigrations = cacheResolvedMigrations.merge(otherPojo.cacheResolvedMigrations);
+        result.cacheSchemaHistory = cacheSchemaHistory.merge(otherPojo.cacheSchemaHistory);
+        result.lockHeartbeatInterval = lockHeartbeatInterval.merge(otherPojo.lockHeartbeatInterval);
+        result.reportAppendOnly = reportAppendOnly.merge(otherPojo.reportAppendOnly);
+        result.reportRetention = reportRetention.merge(otherPojo.reportRetention);
+        result.reportHtmlRuns = reportHtmlRuns.merge(otherPojo.reportHtmlRuns);
+        result.parseAhead = parseAhead.merge(otherPojo.parseAhead);
+        result.streamTableOutput = streamTableOutput.merge(otherPojo.streamTableOutput);
         result.outputType = outputType.merge(otherPojo.outputType);
         result.provisionMode = provisionMode.merge(otherPojo.provisionMode);
         result.setReportFilename(getReportFilename().merge(otherPojo.getReportFilename()));
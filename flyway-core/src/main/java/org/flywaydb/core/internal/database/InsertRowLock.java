@@ -20,8 +20,12 @@
 package org.flywaydb.core.internal.database;
 
 import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.metrics.FlywayMetrics;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.strategy.BackoffStrategy;
 
 import java.math.BigInteger;
 import java.sql.SQLException;
@@ -38,27 +42,56 @@ import java.util.concurrent.TimeUnit;
 public class InsertRowLock {
     private static final Random random = new Random();
     private static final int NUM_THREADS = 2;
+    public static final int LOCK_TIMEOUT_MINS = 10;
+    private static final int DEFAULT_HEARTBEAT_INTERVAL_SECONDS = LOCK_TIMEOUT_MINS * 60 / 2;
+
+    /**
+     * The scheduler running the heartbeats of all held locks. Created when the first lock is acquired and shut down
+     * when the last one is released, so no threads linger once no lock is held.
+     */
+    private static ScheduledExecutorService heartbeatScheduler;
+    private static int activeHeartbeats;
+    private static final Object HEARTBEAT_SCHEDULER_LOCK = new Object();
 
     /**
      * A random string used as an ID for this instance of Flyway.
      */
     private final String tableLockString = getNextRandomString();
     private final JdbcTemplate jdbcTemplate;
-    public static final int LOCK_TIMEOUT_MINS = 10;
-    private final ScheduledExecutorService executor;
+    private final int heartbeatIntervalSeconds;
     private ScheduledFuture<?> scheduledFuture;
+    private long lockAcquiredAt;
 
     public InsertRowLock(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_HEARTBEAT_INTERVAL_SECONDS);
+    }
+
+    public InsertRowLock(JdbcTemplate jdbcTemplate, Configuration configuration) {
+        this(jdbcTemplate, getHeartbeatInterval(configuration));
+    }
+
+    private InsertRowLock(JdbcTemplate jdbcTemplate, int heartbeatIntervalSeconds) {
+        if (heartbeatIntervalSeconds < 1 || heartbeatIntervalSeconds >= LOCK_TIMEOUT_MINS * 60) {
+            throw new FlywayException("Invalid lockHeartbeatInterval: " + heartbeatIntervalSeconds
+                                              + ". Must be between 1 and " + (LOCK_TIMEOUT_MINS * 60 - 1) + " seconds.");
+        }
         this.jdbcTemplate = jdbcTemplate;
-        this.executor = createScheduledExecutor();
+        this.heartbeatIntervalSeconds = heartbeatIntervalSeconds;
+    }
+
+    private static int getHeartbeatInterval(Configuration configuration) {
+        Integer heartbeatInterval = configuration.getModernConfig().getFlyway().getLockHeartbeatInterval();
+        return heartbeatInterval == null ? DEFAULT_HEARTBEAT_INTERVAL_SECONDS : heartbeatInterval;
     }
 
     public void doLock(String insertStatementTemplate, String updateLockStatement, String deleteExpiredLockStatement, String booleanTrue) throws SQLException {
         int retryCount = 0;
+        BackoffStrategy backoffStrategy = new BackoffStrategy(50, 2, 1000);
         while (true) {
             try {
                 jdbcTemplate.execute(generateDeleteExpiredLockStatement(deleteExpiredLockStatement));
                 if (insertLockingRow(insertStatementTemplate, booleanTrue)) {
+                    lockAcquiredAt = System.nanoTime();
                     scheduledFuture = startLockWatchingThread(String.format(updateLockStatement.replace("?", "%s"), tableLockString));
                     return;
                 }
@@ -69,7 +102,7 @@ public class InsertRowLock {
                     LOG.error("Waiting for lock on Flyway schema history table. Application may be deadlocked. Lock row may require manual removal " +
                                       "from the schema history table.");
                 }
-                Thread.sleep(1000);
+                Thread.sleep(backoffStrategy.nextWithJitter());
             } catch (InterruptedException ex) {
                 // Ignore - if interrupted, we still need to wait for lock to become available
             }
@@ -112,23 +145,43 @@ public class InsertRowLock {
         return new BigInteger(128, random).toString(16);
     }
 
-    private ScheduledExecutorService createScheduledExecutor() {
-        return Executors.newScheduledThreadPool(NUM_THREADS, r -> {
-            Thread t = Executors.defaultThreadFactory().newThread(r);
-            t.setDaemon(true);
-            return t;
-        });
-    }
-
     private ScheduledFuture<?> startLockWatchingThread(String updateLockStatement) {
         Runnable lockUpdatingTask = () -> {
             LOG.debug("Updating lock in Flyway schema history table");
-            jdbcTemplate.executeStatement(updateLockStatement);
+            if (jdbcTemplate.executeStatement(updateLockStatement).getException() != null) {
+                FlywayMetrics.increment(FlywayMetrics.LOCK_HEARTBEAT_ERRORS);
+            }
         };
-        return executor.scheduleAtFixedRate(lockUpdatingTask, 0, LOCK_TIMEOUT_MINS / 2, TimeUnit.MINUTES);
+        synchronized (HEARTBEAT_SCHEDULER_LOCK) {
+            if (heartbeatScheduler == null) {
+                heartbeatScheduler = Executors.newScheduledThreadPool(NUM_THREADS, r -> {
+                    Thread t = Executors.defaultThreadFactory().newThread(r);
+                    t.setName("flyway-lock-heartbeat-" + t.getName());
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            activeHeartbeats++;
+            return heartbeatScheduler.scheduleAtFixedRate(lockUpdatingTask, 0, heartbeatIntervalSeconds, TimeUnit.SECONDS);
+        }
     }
 
     private void stopLockWatchingThread() {
-        scheduledFuture.cancel(true);
+        if (scheduledFuture == null) {
+            return;
+        }
+
+        synchronized (HEARTBEAT_SCHEDULER_LOCK) {
+            scheduledFuture.cancel(true);
+            scheduledFuture = null;
+            if (--activeHeartbeats == 0) {
+                heartbeatScheduler.shutdown();
+                heartbeatScheduler = null;
+            }
+        }
+
+        FlywayMetrics.stop(FlywayMetrics.LOCK_HOLD, lockAcquiredAt);
+        long holdMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lockAcquiredAt);
+        LOG.debug("Released lock on Flyway schema history table after " + holdMillis + " ms");
     }
 }
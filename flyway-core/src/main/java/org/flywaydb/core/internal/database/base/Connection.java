@@ -118,6 +118,16 @@ public abstract class Connection<D extends Database> implements Closeable {
         JdbcUtils.closeConnection(jdbcConnection);
     }
 
+    /**
+     * Restores this connection to the state it was in when it was opened, without closing it, so it can be reused
+     * by a subsequent command.
+     */
+    public final void reset() {
+        restoreOriginalState();
+        restoreOriginalSchema();
+        restoreOriginalAutoCommit();
+    }
+
     private void restoreOriginalSchema() {
         ExecutionTemplateFactory.createExecutionTemplate(jdbcConnection, database).execute((Callable<Void>) () -> {
             try {
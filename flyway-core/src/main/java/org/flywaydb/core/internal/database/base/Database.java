@@ -45,6 +45,10 @@ import java.io.Closeable;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.flywaydb.core.internal.database.base.DatabaseConstants.DATABASE_HOSTING_AWS_VM;
 import static org.flywaydb.core.internal.database.base.DatabaseConstants.DATABASE_HOSTING_AZURE_URL_IDENTIFIER;
@@ -60,6 +64,22 @@ import static org.flywaydb.core.internal.util.FlywayDbWebsiteLinks.COMMUNITY_SUP
  */
 @CustomLog
 public abstract class Database<C extends Connection> implements Closeable {
+    private static final int EVENT_CONNECTION_VALIDATION_TIMEOUT_SECONDS = 5;
+    /**
+     * How long the event connection must have been idle before it is validated again on reuse. Below this, callbacks
+     * following each other closely reuse it without the round trip of a validation.
+     */
+    private static final long EVENT_CONNECTION_VALIDATION_IDLE_MILLIS = 1000;
+
+    /**
+     * The scheduler closing the event connections of all databases once they have been idle for too long. Created
+     * when the first expiry is scheduled and shut down when the last one has run or been cancelled, so no thread
+     * lingers while no event connection is idle.
+     */
+    private static ScheduledExecutorService eventConnectionExpiryScheduler;
+    private static int scheduledEventConnectionExpiries;
+    private static final Object EVENT_CONNECTION_EXPIRY_LOCK = new Object();
+
     protected final DatabaseType databaseType;
     @Getter
     protected final Configuration configuration;
@@ -74,6 +94,13 @@ public abstract class Database<C extends Connection> implements Closeable {
     private C migrationConnection;
     private C eventConnection;
     private C mainConnection;
+    private boolean retainConnections;
+    /**
+     * When the event connection was last handed back, as per {@link System#nanoTime()}. 0 while it is in use.
+     */
+    private long eventConnectionReleasedAt;
+    private ScheduledFuture<?> eventConnectionExpiry;
+    private final Object eventConnectionLock = new Object();
     /**
      * The 'major.minor' version of this database.
      */
@@ -317,10 +344,17 @@ public abstract class Database<C extends Connection> implements Closeable {
      * any ongoing migration transaction.
      */
     public final C getEventConnection() {
-        if (!hasEventConnection()) {
-            eventConnection = getConnection(jdbcConnectionFactory.openConnection());
+        synchronized (eventConnectionLock) {
+            cancelEventConnectionExpiry();
+            if (hasEventConnection() && !isEventConnectionReusable()) {
+                closeEventConnectionQuietly();
+            }
+            if (!hasEventConnection()) {
+                eventConnection = getConnection(jdbcConnectionFactory.openConnection());
+            }
+            eventConnectionReleasedAt = 0;
+            return eventConnection;
         }
-        return eventConnection;
     }
 
     public final boolean hasEventConnection(){
@@ -328,15 +362,134 @@ public abstract class Database<C extends Connection> implements Closeable {
     }
 
     /**
-     * An event connection should be disposed after usage to minimize long-standing connections.
+     * Hands the event connection back after a callback. It is reset to its original state and kept open, so the next
+     * callback of the same command can reuse it. It is closed once it has been idle for longer than the configured
+     * event connection idle timeout. With an idle timeout of 0 it is disposed straight away.
+     */
+    public void releaseEventConnection() {
+        synchronized (eventConnectionLock) {
+            if (!hasEventConnection()) {
+                return;
+            }
+            long idleTimeoutMillis = getEventConnectionIdleTimeoutMillis();
+            if (!retainConnections && idleTimeoutMillis <= 0) {
+                disposeEventConnection();
+                return;
+            }
+            eventConnection.reset();
+            eventConnectionReleasedAt = System.nanoTime();
+            if (idleTimeoutMillis > 0) {
+                scheduleEventConnectionExpiry(idleTimeoutMillis);
+            }
+        }
+    }
+
+    /**
+     * An event connection should be disposed after usage to minimize long-standing connections. When connections are
+     * being retained for reuse the event connection is reset to its original state instead.
      */
     public void disposeEventConnection() {
-        if (hasEventConnection()) {
+        synchronized (eventConnectionLock) {
+            if (hasEventConnection()) {
+                if (retainConnections) {
+                    eventConnection.reset();
+                    return;
+                }
+                cancelEventConnectionExpiry();
+                eventConnection.close();
+                eventConnection = null;
+            }
+        }
+    }
+
+    private boolean isEventConnectionReusable() {
+        if (eventConnectionReleasedAt == 0) {
+            return true;
+        }
+        long idleMillis = (System.nanoTime() - eventConnectionReleasedAt) / 1_000_000;
+        long idleTimeoutMillis = getEventConnectionIdleTimeoutMillis();
+        if (idleTimeoutMillis > 0 && idleMillis > idleTimeoutMillis) {
+            LOG.debug("Event connection has been idle for " + idleMillis + "ms, reopening it");
+            return false;
+        }
+        if (idleMillis < EVENT_CONNECTION_VALIDATION_IDLE_MILLIS) {
+            return true;
+        }
+        try {
+            return eventConnection.getJdbcConnection().isValid(EVENT_CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            LOG.debug("Unable to validate event connection, reopening it: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void closeEventConnectionQuietly() {
+        try {
             eventConnection.close();
-            eventConnection = null;
+        } catch (RuntimeException e) {
+            LOG.debug("Error while closing stale event connection: " + e.getMessage());
+        }
+        eventConnection = null;
+        eventConnectionReleasedAt = 0;
+    }
+
+    private void scheduleEventConnectionExpiry(long idleTimeoutMillis) {
+        cancelEventConnectionExpiry();
+        synchronized (EVENT_CONNECTION_EXPIRY_LOCK) {
+            if (eventConnectionExpiryScheduler == null) {
+                eventConnectionExpiryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = Executors.defaultThreadFactory().newThread(r);
+                    t.setName("flyway-event-connection-expiry-" + t.getName());
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            scheduledEventConnectionExpiries++;
+            eventConnectionExpiry = eventConnectionExpiryScheduler.schedule(this::expireEventConnection,
+                                                                            idleTimeoutMillis, TimeUnit.MILLISECONDS);
         }
     }
 
+    private void cancelEventConnectionExpiry() {
+        if (eventConnectionExpiry == null) {
+            return;
+        }
+        synchronized (EVENT_CONNECTION_EXPIRY_LOCK) {
+            if (eventConnectionExpiry.cancel(false)) {
+                expiryDone();
+            }
+            eventConnectionExpiry = null;
+        }
+    }
+
+    private void expireEventConnection() {
+        synchronized (eventConnectionLock) {
+            synchronized (EVENT_CONNECTION_EXPIRY_LOCK) {
+                expiryDone();
+            }
+            // The connection may have been reused and released again since this expiry was scheduled
+            if (hasEventConnection() && eventConnectionReleasedAt != 0) {
+                long idleMillis = (System.nanoTime() - eventConnectionReleasedAt) / 1_000_000;
+                if (idleMillis >= getEventConnectionIdleTimeoutMillis()) {
+                    LOG.debug("Closing event connection after it has been idle for " + idleMillis + "ms");
+                    closeEventConnectionQuietly();
+                }
+            }
+        }
+    }
+
+    private static void expiryDone() {
+        if (--scheduledEventConnectionExpiries == 0) {
+            eventConnectionExpiryScheduler.shutdown();
+            eventConnectionExpiryScheduler = null;
+        }
+    }
+
+    private long getEventConnectionIdleTimeoutMillis() {
+        Integer idleTimeout = configuration.getModernConfig().getFlyway().getEventConnectionIdleTimeout();
+        return idleTimeout == null ? 0 : idleTimeout * 1000L;
+    }
+
     /**
      * @return The major and minor version of the database.
      */
@@ -415,6 +568,28 @@ public abstract class Database<C extends Connection> implements Closeable {
                 + " ORDER BY " + quote("installed_rank");
     }
 
+    /**
+     * @return The query returning the number of rows {@link #getSelectStatement(Table)} loads with an installed rank up
+     * to the given one, the sum of their checksums and the number of successful ones, used to check a schema history
+     * snapshot is still valid. {@code null} if this database doesn't support it, in which case the schema history is
+     * loaded in full by every command.
+     */
+    public String getSelectSnapshotCheckStatement(Table table) {
+        return "SELECT COUNT(*), " + getChecksumSumExpression() + ","
+                + " COUNT(CASE WHEN " + quote("success") + " = " + getBooleanTrue() + " THEN 1 END)"
+                + " FROM " + table
+                + " WHERE " + quote("installed_rank") + " > -1"
+                + " AND " + quote("installed_rank") + " <= ?";
+    }
+
+    /**
+     * @return The expression summing the checksums of schema history rows. The checksums are widened first, as on some
+     * databases the sum of an INT column is an INT itself and overflows after a few rows.
+     */
+    protected String getChecksumSumExpression() {
+        return "SUM(CAST(COALESCE(" + quote("checksum") + ", 0) AS BIGINT))";
+    }
+
     public Pair<String, Object> getDeleteStatement(Table table, boolean version, String filter) {
         String deleteStatement = "DELETE FROM " + table +
             " WHERE " + quote("success") + " = " + getBooleanFalse() + " AND " +
@@ -432,7 +607,33 @@ public abstract class Database<C extends Connection> implements Closeable {
         return installedBy;
     }
 
+    /**
+     * @param retainConnections Whether the connections of this database should be kept open between commands
+     *                          instead of being disposed after use.
+     */
+    public void setRetainConnections(boolean retainConnections) {
+        this.retainConnections = retainConnections;
+    }
+
+    /**
+     * Resets all open connections to their original state so they can be reused by a subsequent command.
+     */
+    public void resetConnections() {
+        if (mainConnection != null) {
+            mainConnection.reset();
+        }
+        if (!useSingleConnection() && migrationConnection != null) {
+            migrationConnection.reset();
+        }
+        synchronized (eventConnectionLock) {
+            if (hasEventConnection()) {
+                eventConnection.reset();
+            }
+        }
+    }
+
     public void close() {
+        retainConnections = false;
         if (!useSingleConnection() && migrationConnection != null) {
             migrationConnection.close();
         }
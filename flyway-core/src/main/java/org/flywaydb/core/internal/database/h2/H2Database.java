@@ -155,6 +155,16 @@ public class H2Database extends Database<H2Connection> {
                 + " ORDER BY " + quote("installed_rank");
     }
 
+    @Override
+    public String getSelectSnapshotCheckStatement(Table table) {
+        return "SELECT COUNT(*), " + getChecksumSumExpression() + ","
+                + " COUNT(CASE WHEN " + quote("success") + " = " + getBooleanTrue() + " THEN 1 END)"
+                + " FROM " + table
+                + " WHERE " + quote("type") + " != 'TABLE'"
+                + " AND " + quote("installed_rank") + " > -1"
+                + " AND " + quote("installed_rank") + " <= ?";
+    }
+
     @Override
     protected String doGetCurrentUser() throws SQLException {
         try {
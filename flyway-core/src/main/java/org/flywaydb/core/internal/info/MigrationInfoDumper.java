@@ -27,8 +27,10 @@ import org.flywaydb.core.api.MigrationState;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.internal.util.AsciiTable;
 import org.flywaydb.core.internal.util.DateUtils;
+import org.flywaydb.core.internal.util.StreamingAsciiTable;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +38,7 @@ import java.util.stream.Collectors;
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class MigrationInfoDumper {
+    private static final List<String> COLUMNS = Arrays.asList("Category", "Version", "Description", "Type", "Installed On", "State", "Undoable");
 
     /**
      * Dumps the info about all migrations into an ascii table.
@@ -47,22 +50,42 @@ public class MigrationInfoDumper {
         Set<MigrationVersion> undoableVersions = getUndoableVersions(migrationInfos);
         migrationInfos = removeUndos(migrationInfos);
 
-        List<String> columns = Arrays.asList("Category", "Version", "Description", "Type", "Installed On", "State", "Undoable");
-
         List<List<String>> rows = new ArrayList<>();
         for (MigrationInfo migrationInfo : migrationInfos) {
-            List<String> row = Arrays.asList(
-                    getCategory(migrationInfo),
-                    getVersionStr(migrationInfo),
-                    migrationInfo.getDescription(),
-                    migrationInfo.getType().name(),
-                    DateUtils.formatDateAsIsoString(migrationInfo.getInstalledOn()),
-                    migrationInfo.getState().getDisplayName(),
-                    getUndoableStatus(migrationInfo, undoableVersions));
-            rows.add(row);
+            rows.add(toRow(migrationInfo, undoableVersions));
         }
 
-        return new AsciiTable(columns, rows, true, "", "No migrations found").render();
+        return new AsciiTable(COLUMNS, rows, true, "", "No migrations found").render();
+    }
+
+    /**
+     * Dumps the info about all migrations into an ascii table, writing it line by line as the rows are produced
+     * instead of building it as one string. Column widths are based on the first rows, see {@link StreamingAsciiTable}.
+     *
+     * @param migrationInfos The list of migrationInfos to dump.
+     * @param sink Receives the table one line at a time.
+     */
+    public static void dumpToAsciiTable(MigrationInfo[] migrationInfos, Consumer<String> sink) {
+        Set<MigrationVersion> undoableVersions = getUndoableVersions(migrationInfos);
+
+        try (StreamingAsciiTable table = new StreamingAsciiTable(COLUMNS, true, "", "No migrations found", sink)) {
+            for (MigrationInfo migrationInfo : migrationInfos) {
+                if (!migrationInfo.getType().isUndo()) {
+                    table.addRow(toRow(migrationInfo, undoableVersions));
+                }
+            }
+        }
+    }
+
+    private static List<String> toRow(MigrationInfo migrationInfo, Set<MigrationVersion> undoableVersions) {
+        return Arrays.asList(
+                getCategory(migrationInfo),
+                getVersionStr(migrationInfo),
+                migrationInfo.getDescription(),
+                migrationInfo.getType().name(),
+                DateUtils.formatDateAsIsoString(migrationInfo.getInstalledOn()),
+                migrationInfo.getState().getDisplayName(),
+                getUndoableStatus(migrationInfo, undoableVersions));
     }
 
     /**
@@ -108,15 +108,15 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
             context.target = context.lastApplied;
         }
 
-        List<MigrationInfoImpl> migrationInfos1 = new ArrayList<>();
-
+        List<MigrationInfoImpl> appliedVersionedInfos = new ArrayList<>(appliedVersioned.size());
         for (Pair<AppliedMigration, AppliedMigrationAttributes> av : appliedVersioned) {
             ResolvedMigration resolvedMigration = resolvedVersioned.get(Pair.of(av.getLeft().getVersion(), av.getLeft().getType()));
-            migrationInfos1.add(new MigrationInfoImpl(resolvedMigration, av.getLeft(), context, av.getRight().outOfOrder, av.getRight().deleted, av.getRight().undone));
+            appliedVersionedInfos.add(new MigrationInfoImpl(resolvedMigration, av.getLeft(), context, av.getRight().outOfOrder, av.getRight().deleted, av.getRight().undone));
         }
 
+        List<MigrationInfoImpl> pendingVersionedInfos = new ArrayList<>();
         for (ResolvedMigration prv : getPendingResolvedVersionedMigrations(appliedVersioned, resolvedVersioned, context)) {
-            migrationInfos1.add(new MigrationInfoImpl(prv, null, context, false, false, false));
+            pendingVersionedInfos.add(new MigrationInfoImpl(prv, null, context, false, false, false));
         }
 
         if (configuration.isFailOnMissingTarget() &&
@@ -124,22 +124,31 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
                 target != MigrationVersion.CURRENT &&
                 target != MigrationVersion.LATEST &&
                 target != MigrationVersion.NEXT) {
-            validateTarget(target, migrationInfos1);
+            validateTarget(target, appliedVersionedInfos, pendingVersionedInfos);
         }
 
         context.latestRepeatableRuns = getLatestRepeatableRuns(appliedRepeatable);
 
+        List<MigrationInfoImpl> appliedRepeatableInfos = new ArrayList<>(appliedRepeatable.size());
         for (Pair<AppliedMigration, AppliedMigrationAttributes> av : appliedRepeatable) {
             AppliedMigration appliedRepeatableMigration = av.getLeft();
             ResolvedMigration resolvedMigration = resolvedRepeatable.get(appliedRepeatableMigration.getDescription());
-            migrationInfos1.add(new MigrationInfoImpl(resolvedMigration, appliedRepeatableMigration, context, false, av.getRight().deleted, false));
+            appliedRepeatableInfos.add(new MigrationInfoImpl(resolvedMigration, appliedRepeatableMigration, context, false, av.getRight().deleted, false));
         }
 
+        List<MigrationInfoImpl> pendingRepeatableInfos = new ArrayList<>();
         for (ResolvedMigration prr : getPendingResolvedRepeatableMigrations(appliedRepeatable, resolvedRepeatable, context)) {
-            migrationInfos1.add(new MigrationInfoImpl(prr, null, context, false, false, false));
+            pendingRepeatableInfos.add(new MigrationInfoImpl(prr, null, context, false, false, false));
         }
 
-        Collections.sort(migrationInfos1);
+        // Applied migrations are read in installed rank order and pending ones come out of version and description
+        // ordered maps, so merging them usually produces a sorted list and the full sort can be skipped.
+        List<MigrationInfoImpl> migrationInfos1 = mergeByInstalledRank(appliedVersionedInfos, appliedRepeatableInfos);
+        migrationInfos1.addAll(pendingVersionedInfos);
+        migrationInfos1.addAll(pendingRepeatableInfos);
+        if (!isSorted(migrationInfos1)) {
+            Collections.sort(migrationInfos1);
+        }
         migrationInfos = migrationInfos1;
 
         if (context.target == MigrationVersion.NEXT) {
@@ -180,6 +189,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
 
     private List<Pair<AppliedMigration, AppliedMigrationAttributes>> getAppliedVersionedMigrations(List<AppliedMigration> appliedMigrations, MigrationInfoContext context) {
         List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedVersionedMigrations = new ArrayList<>();
+        Map<MigrationVersion, Pair<AppliedMigration, AppliedMigrationAttributes>> latestByVersion = new HashMap<>();
         for (AppliedMigration appliedMigration : appliedMigrations) {
             appliedMigration.updateAttributes(appliedVersionedMigrations);
 
@@ -196,22 +206,31 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
                 }
             }
             if (appliedMigration.getType().equals(CoreMigrationType.DELETE) && appliedMigration.isSuccess()) {
-                markAsDeleted(version, appliedVersionedMigrations);
+                markAsDeleted(version, latestByVersion);
                 continue;
             }
 
-            appliedVersionedMigrations.add(Pair.of(appliedMigration, new AppliedMigrationAttributes()));
+            Pair<AppliedMigration, AppliedMigrationAttributes> av = Pair.of(appliedMigration, new AppliedMigrationAttributes());
+            appliedVersionedMigrations.add(av);
+            if (!appliedMigration.getType().isSynthetic()) {
+                latestByVersion.put(version, av);
+            }
         }
         return appliedVersionedMigrations;
     }
 
     private List<Pair<AppliedMigration, AppliedMigrationAttributes>> getAppliedRepeatableMigrations(List<AppliedMigration> appliedMigrations) {
         List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedRepeatableMigrations = new ArrayList<>();
+        Map<String, Pair<AppliedMigration, AppliedMigrationAttributes>> latestByDescription = new HashMap<>();
         for (AppliedMigration appliedMigration : appliedMigrations) {
             if (appliedMigration.getVersion() == null) {
-                appliedRepeatableMigrations.add(Pair.of(appliedMigration, new AppliedMigrationAttributes()));
+                Pair<AppliedMigration, AppliedMigrationAttributes> ar = Pair.of(appliedMigration, new AppliedMigrationAttributes());
+                appliedRepeatableMigrations.add(ar);
+                if (!appliedMigration.getType().isSynthetic()) {
+                    latestByDescription.put(appliedMigration.getDescription(), ar);
+                }
                 if (appliedMigration.getType().equals(CoreMigrationType.DELETE) && appliedMigration.isSuccess()) {
-                    markRepeatableAsDeleted(appliedMigration.getDescription(), appliedRepeatableMigrations);
+                    markRepeatableAsDeleted(appliedMigration.getDescription(), latestByDescription);
                 }
             }
         }
@@ -249,22 +268,52 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
 
 
 
-    private void validateTarget(MigrationVersion target, List<MigrationInfoImpl> migrationInfos) {
-        boolean targetFound = false;
+    private void validateTarget(MigrationVersion target, List<MigrationInfoImpl> appliedMigrationInfos, List<MigrationInfoImpl> pendingMigrationInfos) {
+        if (!containsVersion(target, appliedMigrationInfos) && !containsVersion(target, pendingMigrationInfos)) {
+            throw new FlywayException("No migration with a target version " + target + " could be found. Ensure target is specified correctly and the migration exists.");
+        }
+    }
+
+    private boolean containsVersion(MigrationVersion version, List<MigrationInfoImpl> migrationInfos) {
         for (MigrationInfoImpl migration : migrationInfos) {
-            if (target.compareTo(migration.getVersion()) == 0) {
-                targetFound = true;
-                break;
+            if (version.compareTo(migration.getVersion()) == 0) {
+                return true;
             }
         }
-        if (!targetFound) {
-            throw new FlywayException("No migration with a target version " + target + " could be found. Ensure target is specified correctly and the migration exists.");
+        return false;
+    }
+
+    /**
+     * Merges these two lists, each already ordered by installed rank, into a single list ordered by installed rank.
+     */
+    private List<MigrationInfoImpl> mergeByInstalledRank(List<MigrationInfoImpl> first, List<MigrationInfoImpl> second) {
+        List<MigrationInfoImpl> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            if (first.get(i).getInstalledRank() <= second.get(j).getInstalledRank()) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        merged.addAll(first.subList(i, first.size()));
+        merged.addAll(second.subList(j, second.size()));
+        return merged;
+    }
+
+    private boolean isSorted(List<MigrationInfoImpl> migrationInfos) {
+        for (int i = 1; i < migrationInfos.size(); i++) {
+            if (migrationInfos.get(i - 1).compareTo(migrationInfos.get(i)) > 0) {
+                return false;
+            }
         }
+        return true;
     }
 
     private Set<ResolvedMigration> getPendingResolvedVersionedMigrations(List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedVersionedMigrations,
                                                                          Map<Pair<MigrationVersion, MigrationType>, ResolvedMigration> resolvedVersionedMigrations, MigrationInfoContext context) {
-        Set<ResolvedMigration> pendingResolvedVersionedMigrations = new HashSet<>(resolvedVersionedMigrations.values());
+        Set<ResolvedMigration> pendingResolvedVersionedMigrations = new LinkedHashSet<>(resolvedVersionedMigrations.values());
         for (Pair<AppliedMigration, AppliedMigrationAttributes> av : appliedVersionedMigrations) {
             ResolvedMigration resolvedMigration = resolvedVersionedMigrations.get(Pair.of(av.getLeft().getVersion(), av.getLeft().getType()));
             if (resolvedMigration != null
@@ -282,7 +331,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
 
     private Set<ResolvedMigration> getPendingResolvedRepeatableMigrations(List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedRepeatableMigrations,
                                                                           Map<String, ResolvedMigration> resolvedRepeatableMigrations, MigrationInfoContext context) {
-        Set<ResolvedMigration> pendingResolvedVRepeatableMigrations = new HashSet<>(resolvedRepeatableMigrations.values());
+        Set<ResolvedMigration> pendingResolvedVRepeatableMigrations = new LinkedHashSet<>(resolvedRepeatableMigrations.values());
         for (Pair<AppliedMigration, AppliedMigrationAttributes> av : appliedRepeatableMigrations) {
             AppliedMigration appliedRepeatableMigration = av.getLeft();
             String desc = appliedRepeatableMigration.getDescription();
@@ -337,17 +386,12 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
      * Marks the latest applied migration with this description as deleted.
      *
      * @param description The description to match
-     * @param appliedRepeatable The discovered applied migrations
+     * @param latestByDescription The latest non-synthetic applied migration for each description
      */
-    private void markRepeatableAsDeleted(String description, List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedRepeatable) {
-        for (int i = appliedRepeatable.size() - 1; i >= 0; i--) {
-            Pair<AppliedMigration, AppliedMigrationAttributes> ar = appliedRepeatable.get(i);
-            if (!ar.getLeft().getType().isSynthetic() && description.equals(ar.getLeft().getDescription())) {
-                if (!ar.getRight().deleted) {
-                    ar.getRight().deleted = true;
-                }
-                return;
-            }
+    private void markRepeatableAsDeleted(String description, Map<String, Pair<AppliedMigration, AppliedMigrationAttributes>> latestByDescription) {
+        Pair<AppliedMigration, AppliedMigrationAttributes> ar = latestByDescription.get(description);
+        if (ar != null) {
+            ar.getRight().deleted = true;
         }
     }
 
@@ -355,21 +399,18 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
      * Marks the latest applied migration with this version as deleted.
      *
      * @param version The version.
-     * @param appliedVersioned The applied migrations.
+     * @param latestByVersion The latest non-synthetic applied migration for each version.
      */
-    private void markAsDeleted(MigrationVersion version, List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedVersioned) {
-        for (int i = appliedVersioned.size() - 1; i >= 0; i--) {
-            Pair<AppliedMigration, AppliedMigrationAttributes> av = appliedVersioned.get(i);
-            if (!av.getLeft().getType().isSynthetic() && version.equals(av.getLeft().getVersion())) {
-                if (av.getRight().deleted) {
-                    throw new FlywayException("Corrupted schema history: multiple delete entries for version " + version,
-                                              CoreErrorCode.DUPLICATE_DELETED_MIGRATION);
-                } else {
-                    av.getRight().deleted = true;
-                    return;
-                }
-            }
+    private void markAsDeleted(MigrationVersion version, Map<MigrationVersion, Pair<AppliedMigration, AppliedMigrationAttributes>> latestByVersion) {
+        Pair<AppliedMigration, AppliedMigrationAttributes> av = latestByVersion.get(version);
+        if (av == null) {
+            return;
+        }
+        if (av.getRight().deleted) {
+            throw new FlywayException("Corrupted schema history: multiple delete entries for version " + version,
+                                      CoreErrorCode.DUPLICATE_DELETED_MIGRATION);
         }
+        av.getRight().deleted = true;
     }
 
     @Override
@@ -0,0 +1,50 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.flywaydb.Migration")
+@Label("Migration")
+@Category("Flyway")
+@Description("The execution of a single migration")
+public class MigrationEvent extends Event {
+    @Label("Version")
+    public String version;
+
+    @Label("Description")
+    public String description;
+
+    @Label("Script")
+    public String script;
+
+    @Label("Type")
+    public String type;
+
+    @Label("In Transaction")
+    public boolean inTransaction;
+
+    @Label("Success")
+    public boolean success;
+}
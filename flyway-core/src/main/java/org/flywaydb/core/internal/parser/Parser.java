@@ -22,6 +22,7 @@ package org.flywaydb.core.internal.parser;
 import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.metrics.FlywayMetrics;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.api.resource.Resource;
 import org.flywaydb.core.internal.resource.ResourceName;
@@ -48,6 +49,7 @@ public abstract class Parser {
     private static final Pattern BATCHABLE_REGEX = Pattern.compile("^(INSERT|UPDATE|DELETE|UPSERT|MERGE)");
 
     public final Configuration configuration;
+    private ResourceNameParser resourceNameParser;
     private final int peekDepth;
     private final char identifierQuote;
     private final char alternativeIdentifierQuote;
@@ -117,7 +119,10 @@ public abstract class Parser {
         String filename = resource.getFilename();
         LOG.debug("Parsing " + filename + " ...");
 
-        ResourceName result = new ResourceNameParser(configuration).parse(filename);
+        if (resourceNameParser == null) {
+            resourceNameParser = ResourceNameParser.forConfiguration(configuration);
+        }
+        ResourceName result = resourceNameParser.parse(filename);
         parsingContext.updateFilenamePlaceholder(result, configuration);
 
         PeekingReader peekingReader = new PeekingReader(
@@ -715,7 +720,7 @@ public abstract class Parser {
         @Override
         public boolean hasNext() {
             if (needToRefreshNextStatement) {
-                nextStatement = getNextStatement(resource, peekingReader, recorder, tracker, context);
+                nextStatement = parseNextStatement();
                 needToRefreshNextStatement = false;
             }
             return nextStatement != null;
@@ -724,10 +729,17 @@ public abstract class Parser {
         @Override
         public SqlStatement next() {
             if (needToRefreshNextStatement) {
-                nextStatement = getNextStatement(resource, peekingReader, recorder, tracker, context);
+                nextStatement = parseNextStatement();
             }
             needToRefreshNextStatement = true;
             return nextStatement;
         }
+
+        private SqlStatement parseNextStatement() {
+            long metricsStart = FlywayMetrics.start();
+            SqlStatement statement = getNextStatement(resource, peekingReader, recorder, tracker, context);
+            FlywayMetrics.stop(FlywayMetrics.PARSE, metricsStart);
+            return statement;
+        }
     }
 }
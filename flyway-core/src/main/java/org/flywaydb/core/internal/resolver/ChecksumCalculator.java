@@ -22,6 +22,7 @@ package org.flywaydb.core.internal.resolver;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.metrics.FlywayMetrics;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.util.BomFilter;
 import org.flywaydb.core.internal.util.IOUtils;
@@ -39,6 +40,7 @@ public class ChecksumCalculator {
      * @return The crc-32 checksum of the bytes.
      */
     public static int calculate(LoadableResource... loadableResources) {
+        long metricsStart = FlywayMetrics.start();
         int checksum;
 
 
@@ -57,6 +59,7 @@ public class ChecksumCalculator {
 
 
 
+        FlywayMetrics.stop(FlywayMetrics.CHECKSUM, metricsStart);
         return checksum;
     }
 
@@ -0,0 +1,272 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.resolver;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.scanner.Scanner;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of scanned resources and SQL migration checksums, shared between commands and between Flyway
+ * instances with identical resolution configuration. Entries are only reused while a cheap fingerprint of the locations
+ * (directory modification times, jar modification times and sizes) is unchanged. Checksums are additionally keyed by
+ * the modification time and size of their file, so editing a migration in place is noticed.
+ * <p>
+ * Entries are grouped by class loader in a {@link WeakHashMap}, which compares class loaders by identity. Scanners
+ * reference the class loader they were created with, so they are only held softly: once a class loader is no longer
+ * used elsewhere, the garbage collector can clear its scanners and then the class loader itself.
+ */
+@CustomLog
+public final class ResolutionCache {
+    /**
+     * The maximum number of configurations cached per class loader.
+     */
+    private static final int MAX_ENTRIES = 16;
+
+    private static final Map<ClassLoader, Map<String, SoftReference<Entry>>> CACHE = new WeakHashMap<>();
+
+    private ResolutionCache() {}
+
+    /**
+     * Returns the scanner cached for this configuration if its locations are unchanged, otherwise creates and caches
+     * a new one.
+     *
+     * @param configuration The configuration.
+     * @param implementedInterface The interface scanned classes must implement.
+     * @param stream Whether resources are streamed.
+     * @param scannerFactory Creates a new scanner when none can be reused.
+     * @return The scanner.
+     */
+    @SuppressWarnings("unchecked")
+    public static <I> Scanner<I> getScanner(Configuration configuration, Class<I> implementedInterface, boolean stream,
+                                            Supplier<Scanner<I>> scannerFactory) {
+        Long fingerprint = fingerprint(configuration);
+        if (fingerprint == null) {
+            LOG.debug("Unable to fingerprint locations, scanned resources will not be cached");
+            return scannerFactory.get();
+        }
+
+        ClassLoader classLoader = configuration.getClassLoader();
+        String key = createKey(configuration, implementedInterface, stream);
+        synchronized (CACHE) {
+            SoftReference<Entry> reference = getEntries(classLoader).get(key);
+            Entry entry = reference == null ? null : reference.get();
+            if (entry != null && entry.fingerprint == fingerprint) {
+                LOG.debug("Reusing cached scan of " + Arrays.toString(configuration.getLocations()));
+                return (Scanner<I>) entry.scanner;
+            }
+        }
+
+        Scanner<I> scanner = scannerFactory.get();
+        synchronized (CACHE) {
+            getEntries(classLoader).put(key, new SoftReference<>(new Entry(fingerprint, scanner)));
+        }
+        return scanner;
+    }
+
+    private static Map<String, SoftReference<Entry>> getEntries(ClassLoader classLoader) {
+        return CACHE.computeIfAbsent(classLoader, k -> new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SoftReference<Entry>> eldest) {
+                return size() > MAX_ENTRIES || eldest.getValue().get() == null;
+            }
+        });
+    }
+
+    /**
+     * Scans all cached entries, so callers should look the checksums up once per resolution rather than per resource.
+     * The returned map is concurrent and may be updated without holding any lock.
+     *
+     * @param resourceProvider The resource provider migrations are being resolved from.
+     * @return The checksums cached for its resources, or {@code null} if it is not a cached scanner.
+     */
+    public static Map<String, Integer> getChecksums(ResourceProvider resourceProvider) {
+        synchronized (CACHE) {
+            for (Map<String, SoftReference<Entry>> entries : CACHE.values()) {
+                for (SoftReference<Entry> reference : entries.values()) {
+                    Entry entry = reference.get();
+                    if (entry != null && entry.scanner == resourceProvider) {
+                        return entry.checksums;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param resource A resource migrations are being resolved from.
+     * @return A stamp changing whenever this resource is modified on disk, to be part of the key of its cached
+     * checksums. Empty for resources inside jars, which are covered by the fingerprint of their jar.
+     */
+    public static String getChecksumStamp(LoadableResource resource) {
+        try {
+            Path path = Paths.get(resource.getAbsolutePathOnDisk());
+            if (Files.isRegularFile(path)) {
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                return attrs.lastModifiedTime().toMillis() + ":" + attrs.size();
+            }
+        } catch (IOException | InvalidPathException | FlywayException e) {
+            LOG.debug("Unable to stamp " + resource.getRelativePath() + ": " + e.getMessage());
+        }
+        return "";
+    }
+
+    private static String createKey(Configuration configuration, Class<?> implementedInterface, boolean stream) {
+        return implementedInterface.getName()
+                + "|" + Arrays.toString(configuration.getLocations())
+                + "|" + configuration.getEncoding()
+                + "|" + configuration.isDetectEncoding()
+                + "|" + configuration.isFailOnMissingLocations()
+                + "|" + stream;
+    }
+
+    /**
+     * @return The combined fingerprint of all locations, or {@code null} if one of them can't be fingerprinted.
+     */
+    private static Long fingerprint(Configuration configuration) {
+        long fingerprint = 17;
+        for (Location location : configuration.getLocations()) {
+            Long locationFingerprint;
+            if (location.isFileSystem()) {
+                locationFingerprint = fingerprintDirectory(Paths.get(location.getRootPath()));
+            } else if (location.isClassPath()) {
+                locationFingerprint = fingerprintClassPath(configuration.getClassLoader(), location.getRootPath());
+            } else {
+                return null;
+            }
+            if (locationFingerprint == null) {
+                return null;
+            }
+            fingerprint = 31 * fingerprint + locationFingerprint;
+        }
+        return fingerprint;
+    }
+
+    private static Long fingerprintClassPath(ClassLoader classLoader, String rootPath) {
+        long fingerprint = 17;
+        try {
+            Enumeration<URL> urls = classLoader.getResources(rootPath);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                Long urlFingerprint;
+                if ("file".equals(url.getProtocol())) {
+                    urlFingerprint = fingerprintDirectory(Paths.get(url.toURI()));
+                } else if ("jar".equals(url.getProtocol())) {
+                    urlFingerprint = fingerprintJar(url);
+                } else {
+                    return null;
+                }
+                if (urlFingerprint == null) {
+                    return null;
+                }
+                fingerprint = 31 * fingerprint + urlFingerprint;
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOG.debug("Unable to fingerprint classpath location " + rootPath + ": " + e.getMessage());
+            return null;
+        }
+        return fingerprint;
+    }
+
+    private static Long fingerprintJar(URL url) throws IOException, URISyntaxException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return null;
+        }
+        URL jarFileUrl = ((JarURLConnection) connection).getJarFileURL();
+        if (!"file".equals(jarFileUrl.getProtocol())) {
+            return null;
+        }
+        Path jar = Paths.get(jarFileUrl.toURI());
+        return 31 * (31 * (long) jar.hashCode() + Files.getLastModifiedTime(jar).toMillis()) + Files.size(jar);
+    }
+
+    /**
+     * Fingerprints the modification times of a directory tree's directories, which change whenever a file is added,
+     * removed or renamed, without looking at the files themselves.
+     */
+    private static Long fingerprintDirectory(Path root) {
+        if (!Files.exists(root)) {
+            return 0L;
+        }
+        long[] fingerprint = {17};
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    add(dir, attrs);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+
+                private void add(Path path, BasicFileAttributes attrs) {
+                    fingerprint[0] = 31 * (31 * fingerprint[0] + path.hashCode()) + attrs.lastModifiedTime().toMillis();
+                }
+            });
+        } catch (IOException e) {
+            LOG.debug("Unable to fingerprint directory " + root + ": " + e.getMessage());
+            return null;
+        }
+        return fingerprint[0];
+    }
+
+    private static class Entry {
+        private final long fingerprint;
+        private final Scanner<?> scanner;
+        private final Map<String, Integer> checksums = new ConcurrentHashMap<>();
+
+        private Entry(long fingerprint, Scanner<?> scanner) {
+            this.fingerprint = fingerprint;
+            this.scanner = scanner;
+        }
+    }
+}
@@ -135,7 +135,7 @@ public class ScriptMigrationResolver implements MigrationResolver {
     }
 
     private void addMigrations(MigrationType migrationType, List<ResolvedMigration> migrations, String prefix, boolean repeatable) {
-        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
 
         for (LoadableResource resource : resourceProvider.getResources(prefix, new String[] {""})) {
             String filename = resource.getFilename();
@@ -164,7 +164,7 @@ public class ScriptMigrationResolver implements MigrationResolver {
     }
 
     public void resolveCallbacks() {
-        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
 
         for (LoadableResource resource : resourceProvider.getResources("", new String[] {""})) {
             String filename = resource.getFilename();
@@ -21,6 +21,7 @@ package org.flywaydb.core.internal.resolver.sql;
 
 import lombok.CustomLog;
 import org.flywaydb.core.api.CoreMigrationType;
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.ResourceProvider;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.configuration.Configuration;
@@ -32,6 +33,7 @@ import org.flywaydb.core.extensibility.LicenseGuard;
 import org.flywaydb.core.extensibility.Tier;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.resolver.ChecksumCalculator;
+import org.flywaydb.core.internal.resolver.ResolutionCache;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
 import org.flywaydb.core.internal.resource.ResourceName;
@@ -42,9 +44,15 @@ import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Migration resolver for SQL files on the classpath. The SQL files must have names like
@@ -71,9 +79,11 @@ public class SqlMigrationResolver implements MigrationResolver {
     public List<ResolvedMigration> resolveMigrations(Context context) {
         List<ResolvedMigration> migrations = new ArrayList<>();
         String[] suffixes = configuration.getSqlMigrationSuffixes();
+        // Looked up once, as the lookup goes through the process-wide cache and scripts may be prepared concurrently
+        Map<String, Integer> cachedChecksums = ResolutionCache.getChecksums(resourceProvider);
 
-        addMigrations(migrations, configuration.getSqlMigrationPrefix(), suffixes, false);
-        addMigrations(migrations, configuration.getRepeatableSqlMigrationPrefix(), suffixes, true);
+        addMigrations(migrations, cachedChecksums, configuration.getSqlMigrationPrefix(), suffixes, false);
+        addMigrations(migrations, cachedChecksums, configuration.getRepeatableSqlMigrationPrefix(), suffixes, true);
 
         migrations.sort(new ResolvedMigrationComparator());
         return migrations;
@@ -105,20 +115,44 @@ public class SqlMigrationResolver implements MigrationResolver {
         return null;
     }
 
-    private void addMigrations(List<ResolvedMigration> migrations, String prefix, String[] suffixes, boolean repeatable) {
-        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+    private void addMigrations(List<ResolvedMigration> migrations, Map<String, Integer> cachedChecksums, String prefix,
+                               String[] suffixes, boolean repeatable) {
+        ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
 
+        List<PreparedScript> scripts = new ArrayList<>();
         for (LoadableResource resource : resourceProvider.getResources(prefix, suffixes)) {
             String filename = resource.getFilename();
             ResourceName resourceName = resourceNameParser.parse(filename);
             if (!resourceName.isValid() || isSqlCallback(resourceName) || !prefix.equals(resourceName.getPrefix())) {
                 continue;
             }
+            scripts.add(new PreparedScript(resource, resourceName));
+        }
 
-            SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, configuration.isMixed(), resourceProvider);
+        int parallelism = getResolveParallelism();
+        if (parallelism > 1 && scripts.size() > 1) {
+            prepareInParallel(scripts, cachedChecksums, repeatable, parallelism);
+        } else {
+            for (PreparedScript script : scripts) {
+                prepare(script, cachedChecksums, repeatable, false);
+            }
+        }
+
+        for (PreparedScript script : scripts) {
+            migrations.add(complete(script, repeatable));
+        }
+    }
+
+    /**
+     * Creates the script and calculates its checksums. When the filename placeholder can't be updated because other
+     * scripts are being prepared concurrently, the placeholder-replaced checksum is left to {@link #complete}.
+     */
+    private void prepare(PreparedScript script, Map<String, Integer> cachedChecksums, boolean repeatable,
+                         boolean deferFilenamePlaceholder) {
+        script.sqlScript = sqlScriptFactory.createSqlScript(script.resource, configuration.isMixed(), resourceProvider);
 
-            List<LoadableResource> resources = new ArrayList<>();
-            resources.add(resource);
+        List<LoadableResource> resources = new ArrayList<>();
+        resources.add(script.resource);
 
 
 
@@ -133,20 +167,99 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
-            Integer checksum = getChecksumForLoadableResource(repeatable, resources, resourceName, sqlScript.placeholderReplacement());
-            Integer equivalentChecksum = getEquivalentChecksumForLoadableResource(repeatable, resources);
 
-            migrations.add(new ResolvedMigrationImpl(
-                    resourceName.getVersion(),
-                    resourceName.getDescription(),
-                    resource.getRelativePath(),
-                    checksum,
-                    equivalentChecksum,
-                    CoreMigrationType.SQL,
-                    resource.getAbsolutePathOnDisk(),
-                    new SqlMigrationExecutor(sqlScriptExecutorFactory, sqlScript, false,
-                                             configuration.isBatch())));
+        script.resources = resources;
+        boolean placeholderReplacement = script.sqlScript.placeholderReplacement();
+        if (!repeatable || !placeholderReplacement) {
+            // Checksums of the raw content only depend on the resource, so they can be cached alongside the scan
+            script.checksum = getCachedChecksum(cachedChecksums, "checksum:", script.resource,
+                                                () -> getChecksumForLoadableResource(repeatable, resources, script.resourceName, placeholderReplacement));
+        } else if (!deferFilenamePlaceholder) {
+            script.checksum = getChecksumForLoadableResource(repeatable, resources, script.resourceName, placeholderReplacement);
+        }
+        if (repeatable) {
+            script.equivalentChecksum = getCachedChecksum(cachedChecksums, "equivalent:", script.resource,
+                                                          () -> getEquivalentChecksumForLoadableResource(true, resources));
+        }
+    }
+
+    /**
+     * @param cachedChecksums The checksums cached for the resource provider, or {@code null} if there are none.
+     */
+    private Integer getCachedChecksum(Map<String, Integer> cachedChecksums, String kind, LoadableResource resource,
+                                      Supplier<Integer> checksumCalculator) {
+        if (cachedChecksums == null) {
+            return checksumCalculator.get();
+        }
+        String key = kind + resource.getRelativePath() + "@" + ResolutionCache.getChecksumStamp(resource);
+        Integer checksum = cachedChecksums.get(key);
+        if (checksum == null) {
+            checksum = checksumCalculator.get();
+            cachedChecksums.put(key, checksum);
+        }
+        return checksum;
+    }
+
+    private ResolvedMigrationImpl complete(PreparedScript script, boolean repeatable) {
+        Integer checksum = script.checksum;
+        if (checksum == null) {
+            checksum = getChecksumForLoadableResource(repeatable, script.resources, script.resourceName, script.sqlScript.placeholderReplacement());
+        }
+
+        return new ResolvedMigrationImpl(
+                script.resourceName.getVersion(),
+                script.resourceName.getDescription(),
+                script.resource.getRelativePath(),
+                checksum,
+                script.equivalentChecksum,
+                CoreMigrationType.SQL,
+                script.resource.getAbsolutePathOnDisk(),
+                new SqlMigrationExecutor(sqlScriptExecutorFactory, script.sqlScript, false,
+                                         configuration.isBatch()));
+    }
+
+    /**
+     * Prepares the scripts on a fork-join pool. Scripts after the first failing one are skipped, and the failure of the
+     * earliest script in resolution order is rethrown, so errors are the same as when preparing them one at a time.
+     */
+    private void prepareInParallel(List<PreparedScript> scripts, Map<String, Integer> cachedChecksums, boolean repeatable,
+                                   int parallelism) {
+        AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        RuntimeException[] failures = new RuntimeException[scripts.size()];
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, scripts.size()).parallel().forEach(i -> {
+                if (i > firstFailure.get()) {
+                    return;
+                }
+                try {
+                    prepare(scripts.get(i), cachedChecksums, repeatable, true);
+                } catch (RuntimeException e) {
+                    failures[i] = e;
+                    firstFailure.accumulateAndGet(i, Math::min);
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while resolving SQL migrations", e);
+        } catch (ExecutionException e) {
+            throw new FlywayException("Unable to resolve SQL migrations: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        if (firstFailure.get() != Integer.MAX_VALUE) {
+            throw failures[firstFailure.get()];
+        }
+    }
+
+    private int getResolveParallelism() {
+        Integer resolveParallelism = configuration.getModernConfig().getFlyway().getResolveParallelism();
+        if (resolveParallelism == null) {
+            return 1;
         }
+        return resolveParallelism == 0 ? Runtime.getRuntime().availableProcessors() : resolveParallelism;
     }
 
     /**
@@ -157,4 +270,18 @@ public class SqlMigrationResolver implements MigrationResolver {
     protected static boolean isSqlCallback(ResourceName result) {
         return Event.fromId(result.getPrefix()) != null;
     }
+
+    private static class PreparedScript {
+        private final LoadableResource resource;
+        private final ResourceName resourceName;
+        private SqlScript sqlScript;
+        private List<LoadableResource> resources;
+        private Integer checksum;
+        private Integer equivalentChecksum;
+
+        private PreparedScript(LoadableResource resource, ResourceName resourceName) {
+            this.resource = resource;
+            this.resourceName = resourceName;
+        }
+    }
 }
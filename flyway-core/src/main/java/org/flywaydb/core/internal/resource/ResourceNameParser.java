@@ -27,34 +27,102 @@ import org.flywaydb.core.internal.util.Pair;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Parses resource names into their prefix, version, description and suffix. The prefixes, separator and suffixes are
+ * read from the configuration once, when the parser is created, and the results of {@link #parse(String)} are
+ * memoized, so a parser can be shared by everything parsing names for the same configuration; see
+ * {@link #forConfiguration(Configuration)}.
+ */
 public class ResourceNameParser {
-    private final Configuration configuration;
+    /**
+     * The parser shared by each configuration. Weak keys, so that configurations can still be garbage collected; the
+     * parsers therefore must not reference their configuration.
+     */
+    private static final Map<Configuration, ResourceNameParser> SHARED_PARSERS = new WeakHashMap<>();
+
     private final List<Pair<String, ResourceType>> prefixes;
+    /**
+     * The non-empty prefixes by their first character, each list in the same order as {@link #prefixes}.
+     */
+    private final Map<Character, List<Pair<String, ResourceType>>> prefixesByFirstChar = new HashMap<>();
+    /**
+     * The empty prefixes, which match any name and are therefore tried last.
+     */
+    private final List<Pair<String, ResourceType>> emptyPrefixes = new ArrayList<>();
+    private final String separator;
+    private final String[] suffixes;
+    private final String[] upperCaseSuffixes;
+    private final Map<String, ResourceName> parsedNames = new ConcurrentHashMap<>();
 
     public ResourceNameParser(Configuration configuration) {
-        this.configuration = configuration;
+        this(configuration, populatePrefixes(configuration));
+    }
+
+    private ResourceNameParser(Configuration configuration, List<Pair<String, ResourceType>> prefixes) {
         // Versioned and Undo migrations are named in the form prefixVERSIONseparatorDESCRIPTIONsuffix
         // Repeatable migrations and callbacks are named in the form prefixSeparatorDESCRIPTIONsuffix
-        prefixes = populatePrefixes(configuration);
+        this.prefixes = prefixes;
+        for (Pair<String, ResourceType> prefix : prefixes) {
+            if (prefix.getLeft().isEmpty()) {
+                emptyPrefixes.add(prefix);
+            } else {
+                prefixesByFirstChar.computeIfAbsent(prefix.getLeft().charAt(0), c -> new ArrayList<>()).add(prefix);
+            }
+        }
+        this.separator = configuration.getSqlMigrationSeparator();
+        this.suffixes = configuration.getSqlMigrationSuffixes().clone();
+        this.upperCaseSuffixes = toUpperCase(suffixes);
+    }
+
+    /**
+     * Returns the parser shared by everything parsing resource names for this configuration. A new parser is only
+     * created if the prefixes, separator or suffixes of the configuration changed since the last call.
+     */
+    public static ResourceNameParser forConfiguration(Configuration configuration) {
+        List<Pair<String, ResourceType>> prefixes = populatePrefixes(configuration);
+        synchronized (SHARED_PARSERS) {
+            ResourceNameParser parser = SHARED_PARSERS.get(configuration);
+            if (parser == null || !parser.matches(prefixes, configuration)) {
+                parser = new ResourceNameParser(configuration, prefixes);
+                SHARED_PARSERS.put(configuration, parser);
+            }
+            return parser;
+        }
+    }
+
+    private boolean matches(List<Pair<String, ResourceType>> prefixes, Configuration configuration) {
+        return this.prefixes.equals(prefixes)
+                && Objects.equals(separator, configuration.getSqlMigrationSeparator())
+                && Arrays.equals(suffixes, configuration.getSqlMigrationSuffixes());
     }
 
     public ResourceName parse(String resourceName) {
-        return parse(resourceName, configuration.getSqlMigrationSuffixes());
+        ResourceName parsedName = parsedNames.get(resourceName);
+        if (parsedName == null) {
+            parsedName = parse(resourceName, suffixes, upperCaseSuffixes);
+            parsedNames.put(resourceName, parsedName);
+        }
+        return parsedName;
     }
 
     public ResourceName parse(String resourceName, String[] suffixes) {
+        return parse(resourceName, suffixes, toUpperCase(suffixes));
+    }
+
+    private ResourceName parse(String resourceName, String[] suffixes, String[] upperCaseSuffixes) {
         // Strip off suffixes
-        Pair<String, String> suffixResult = stripSuffix(resourceName, suffixes);
+        Pair<String, String> suffixResult = stripSuffix(resourceName, suffixes, upperCaseSuffixes);
 
         // Find the appropriate prefix
-        Pair<String, ResourceType> prefix = findPrefix(suffixResult.getLeft(), prefixes);
+        Pair<String, ResourceType> prefix = findPrefix(suffixResult.getLeft());
         if (prefix != null) {
 
             // Strip off prefix
             Pair<String, String> prefixResult = stripPrefix(suffixResult.getLeft(), prefix.getLeft());
             String name = prefixResult.getRight();
-            Pair<String, String> splitName = StringUtils.splitAtFirstSeparator(name, configuration.getSqlMigrationSeparator());
+            Pair<String, String> splitName = StringUtils.splitAtFirstSeparator(name, separator);
             boolean isValid = true;
             String validationMessage = "";
             String exampleDescription = ("".equals(splitName.getRight())) ? "description" : splitName.getRight();
@@ -66,7 +134,7 @@ public class ResourceNameParser {
                     isValid = false;
                     validationMessage = "Invalid repeatable migration / callback name format: " + resourceName
                             + " (It cannot contain a version and should look like this: "
-                            + prefixResult.getLeft() + configuration.getSqlMigrationSeparator() + exampleDescription + suffixResult.getRight() + ")";
+                            + prefixResult.getLeft() + separator + exampleDescription + suffixResult.getRight() + ")";
                 }
             } else {
                 // Must have a version (that is, something before the separator)
@@ -74,7 +142,7 @@ public class ResourceNameParser {
                     isValid = false;
                     validationMessage = "Invalid versioned migration name format: " + resourceName
                             + " (It must contain a version and should look like this: "
-                            + prefixResult.getLeft() + "1.2" + configuration.getSqlMigrationSeparator() + exampleDescription + suffixResult.getRight() + ")";
+                            + prefixResult.getLeft() + "1.2" + separator + exampleDescription + suffixResult.getRight() + ")";
                 } else {
                     // ... and that must be a legitimate version
                     try {
@@ -89,7 +157,7 @@ public class ResourceNameParser {
 
             String description = splitName.getRight().replace("_", " ");
             return new ResourceName(prefixResult.getLeft(), splitName.getLeft(),
-                                    configuration.getSqlMigrationSeparator(), description, splitName.getRight(), suffixResult.getRight(),
+                                    separator, description, splitName.getRight(), suffixResult.getRight(),
                                     isValid, validationMessage);
         }
 
@@ -97,24 +165,39 @@ public class ResourceNameParser {
         return ResourceName.invalid("Unrecognised migration name format: " + resourceName);
     }
 
-    private Pair<String, ResourceType> findPrefix(String nameWithoutSuffix, List<Pair<String, ResourceType>> prefixes) {
-        for (Pair<String, ResourceType> prefix : prefixes) {
-            if (nameWithoutSuffix.startsWith(prefix.getLeft())) {
-                return prefix;
+    private Pair<String, ResourceType> findPrefix(String nameWithoutSuffix) {
+        if (!nameWithoutSuffix.isEmpty()) {
+            List<Pair<String, ResourceType>> candidates = prefixesByFirstChar.get(nameWithoutSuffix.charAt(0));
+            if (candidates != null) {
+                for (Pair<String, ResourceType> prefix : candidates) {
+                    if (nameWithoutSuffix.startsWith(prefix.getLeft())) {
+                        return prefix;
+                    }
+                }
             }
         }
-        return null;
+        return emptyPrefixes.isEmpty() ? null : emptyPrefixes.get(0);
     }
 
-    private Pair<String, String> stripSuffix(String name, String[] suffixes) {
-        for (String suffix : suffixes) {
-            if (name.toUpperCase().endsWith(suffix.toUpperCase())) {
+    private Pair<String, String> stripSuffix(String name, String[] suffixes, String[] upperCaseSuffixes) {
+        String upperCaseName = name.toUpperCase();
+        for (int i = 0; i < suffixes.length; i++) {
+            if (upperCaseName.endsWith(upperCaseSuffixes[i])) {
+                String suffix = suffixes[i];
                 return Pair.of(name.substring(0, name.length() - suffix.length()), name.substring(name.length() - suffix.length()));
             }
         }
         return Pair.of(name, "");
     }
 
+    private static String[] toUpperCase(String[] values) {
+        String[] upperCaseValues = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            upperCaseValues[i] = values[i].toUpperCase();
+        }
+        return upperCaseValues;
+    }
+
     private Pair<String, String> stripPrefix(String fileName, String prefix) {
         if (fileName.startsWith(prefix)) {
             return Pair.of(prefix, fileName.substring(prefix.length()));
@@ -122,7 +205,7 @@ public class ResourceNameParser {
         return null;
     }
 
-    private List<Pair<String, ResourceType>> populatePrefixes(Configuration configuration) {
+    private static List<Pair<String, ResourceType>> populatePrefixes(Configuration configuration) {
         List<Pair<String, ResourceType>> prefixes = new ArrayList<>();
 
         configuration.getPluginRegister().getPlugins(ResourceTypeProvider.class)
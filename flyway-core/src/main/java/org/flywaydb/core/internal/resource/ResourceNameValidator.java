@@ -44,7 +44,7 @@ public class ResourceNameValidator {
     public void validateSQLMigrationNaming(ResourceProvider provider, Configuration configuration, DatabaseType databaseType) {
 
         List<String> errorsFound = new ArrayList<>();
-        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
 
         for (Resource resource : getAllSqlResources(provider, configuration)) {
             String filename = resource.getFilename();
@@ -24,6 +24,7 @@ import org.flywaydb.core.api.ClassProvider;
 import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.ResourceProvider;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.metrics.FlywayMetrics;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.extensibility.LicenseGuard;
 import org.flywaydb.core.extensibility.Tier;
@@ -54,7 +55,8 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
 
     // Lookup maps to speed up getResource
     private final HashMap<String, LoadableResource> relativeResourceMap = new HashMap<>();
-    private HashMap<String, LoadableResource> absoluteResourceMap = null;
+    // Built lazily; volatile so a scanner shared between threads publishes a fully populated map
+    private volatile HashMap<String, LoadableResource> absoluteResourceMap = null;
 
     public Scanner (
             Class<I> implementedInterface,
@@ -62,6 +64,7 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
             ResourceNameCache resourceNameCache,
             LocationScannerCache locationScannerCache,
             Configuration configuration) {
+        long metricsStart = FlywayMetrics.start();
 
         Charset encoding = configuration.getEncoding();
         boolean throwOnMissingLocations = configuration.isFailOnMissingLocations();
@@ -69,10 +72,18 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
 
         FileSystemScanner fileSystemScanner = new FileSystemScanner(stream, configuration);
 
+        List<Location> fileSystemLocations = new ArrayList<>();
+        for (Location location : configuration.getLocations()) {
+            if (location.isFileSystem()) {
+                fileSystemLocations.add(location);
+            }
+        }
+        Map<Location, Collection<LoadableResource>> fileSystemResources = fileSystemScanner.scanForResources(fileSystemLocations);
+
         FeatureDetector detector = new FeatureDetector(classLoader);
         for (Location location : configuration.getLocations()) {
             if (location.isFileSystem()) {
-                resources.addAll(fileSystemScanner.scanForResources(location));
+                resources.addAll(fileSystemResources.get(location));
             } else if (location.isGCS()) {
 
                  throw new FlywayEditionUpgradeRequiredException(Tier.TEAMS, LicenseGuard.getTier(configuration), "Google Cloud Storage");
@@ -103,6 +114,9 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
         for (LoadableResource resource : resources) {
             relativeResourceMap.put(resource.getRelativePath().toLowerCase(), resource);
         }
+
+        FlywayMetrics.stop(FlywayMetrics.SCAN, metricsStart);
+        FlywayMetrics.recordValue(FlywayMetrics.SCAN_RESOURCES, resources.size());
     }
 
     @Override
@@ -117,14 +131,16 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
         // absolute path is requested as this is really slow
         // Should only ever be required for sqlplus @
         if (Paths.get(name).isAbsolute()) {
-            if (absoluteResourceMap == null) {
-                absoluteResourceMap = new HashMap<>();
+            HashMap<String, LoadableResource> absoluteResources = absoluteResourceMap;
+            if (absoluteResources == null) {
+                absoluteResources = new HashMap<>();
                 for (LoadableResource resource : resources) {
-                    absoluteResourceMap.put(resource.getAbsolutePathOnDisk().toLowerCase(), resource);
+                    absoluteResources.put(resource.getAbsolutePathOnDisk().toLowerCase(), resource);
                 }
+                absoluteResourceMap = absoluteResources;
             }
 
-            loadedResource = absoluteResourceMap.get(name.toLowerCase());
+            loadedResource = absoluteResources.get(name.toLowerCase());
 
             if (loadedResource != null) {
                 return loadedResource;
@@ -28,14 +28,35 @@ import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
 import org.flywaydb.core.internal.sqlscript.SqlScriptMetadata;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @CustomLog
 public class FileSystemScanner {
+    /**
+     * The maximum number of locations to scan concurrently.
+     */
+    private static final int MAX_CONCURRENT_LOCATIONS = 8;
+
     private final Charset defaultEncoding;
     private final boolean detectEncoding;
     private final boolean throwOnMissingLocations;
@@ -50,6 +71,48 @@ public class FileSystemScanner {
         this.config = config;
     }
 
+    /**
+     * Scans the FileSystem for resources under each of these locations concurrently.
+     *
+     * @param locations The locations in the filesystem to start searching. Subdirectories are also searched.
+     * @return The resources that were found, per location, in the order of the locations.
+     */
+    public Map<Location, Collection<LoadableResource>> scanForResources(List<Location> locations) {
+        Map<Location, Collection<LoadableResource>> resources = new LinkedHashMap<>();
+        if (locations.size() <= 1) {
+            for (Location location : locations) {
+                resources.put(location, scanForResources(location));
+            }
+            return resources;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(locations.size(), MAX_CONCURRENT_LOCATIONS), r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            Map<Location, Future<Collection<LoadableResource>>> futures = new LinkedHashMap<>();
+            for (Location location : locations) {
+                futures.put(location, executorService.submit(() -> scanForResources(location)));
+            }
+            for (Map.Entry<Location, Future<Collection<LoadableResource>>> entry : futures.entrySet()) {
+                resources.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlywayException("Unable to scan filesystem locations: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while scanning filesystem locations", e);
+        } finally {
+            executorService.shutdownNow();
+        }
+        return resources;
+    }
+
     /**
      * Scans the FileSystem for resources under the specified location, starting with the specified prefix and ending with
      * the specified suffix.
@@ -74,14 +137,15 @@ public class FileSystemScanner {
             return Collections.emptyList();
         }
 
+        Set<String> resourceNames = findResourceNamesFromFileSystem(path, dir);
         Set<LoadableResource> resources = new TreeSet<>();
 
-        for (String resourceName : findResourceNamesFromFileSystem(path, dir)) {
+        for (String resourceName : resourceNames) {
             boolean detectEncodingForThisResource = detectEncoding;
             if (location.matchesPath(resourceName)) {
                 Charset encoding = defaultEncoding;
                 String encodingBlurb = "";
-                if (new File(resourceName + ".conf").exists()) {
+                if (resourceNames.contains(resourceName + ".conf")) {
                     LoadableResource metadataResource = new FileSystemResource(location, resourceName + ".conf", defaultEncoding, false);
                     SqlScriptMetadata metadata = SqlScriptMetadata.fromResource(metadataResource, null, config);
                     if (metadata.encoding() != null) {
@@ -112,38 +176,64 @@ public class FileSystemScanner {
         return DirectoryValidationResult.VALID;
     }
 
+    /**
+     * Walks this folder, relying on the attributes returned while reading each directory instead of querying every
+     * entry separately.
+     *
+     * @return The paths of all files found, including {@code .conf} sidecar files.
+     */
     private Set<String> findResourceNamesFromFileSystem(String scanRootLocation, File folder) {
-        String path = folder.getPath();
-        LOG.debug("Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
-
-        Set<String> resourceNames = new TreeSet<>();
+        Path root = folder.toPath();
+        List<String> resourceNames = new ArrayList<>();
+
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(root) && Files.isHidden(dir)) {
+                        // #1807: Skip hidden directories to avoid issues with Kubernetes
+                        LOG.debug("Skipping hidden directory: " + dir.toAbsolutePath());
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    LOG.debug("Scanning for resources in path: " + dir + " (" + scanRootLocation + ")");
+                    return FileVisitResult.CONTINUE;
+                }
 
-        File[] files = folder.listFiles();
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    // Symbolic links are only reported as such when their target could not be read
+                    if (!attrs.isDirectory() && !attrs.isSymbolicLink()) {
+                        resourceNames.add(file.toString());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
 
-        if (files == null) {
-            if (throwOnMissingLocations) {
-                throw new FlywayException("Failed to find filesystem location: " + path + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
-            }
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    if (file.equals(root) && throwOnMissingLocations) {
+                        throw new FlywayException("Failed to find filesystem location: " + file + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
+                    }
 
-            LOG.error("Skipping filesystem location: " + path + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
-            return Collections.emptySet();
-        }
+                    LOG.error("Skipping filesystem location: " + file + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
+                    return FileVisitResult.CONTINUE;
+                }
 
-        for (File file : files) {
-            if (file.canRead()) {
-                if (file.isDirectory()) {
-                    if (file.isHidden()) {
-                        // #1807: Skip hidden directories to avoid issues with Kubernetes
-                        LOG.debug("Skipping hidden directory: " + file.getAbsolutePath());
-                    } else {
-                        resourceNames.addAll(findResourceNamesFromFileSystem(scanRootLocation, file));
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+                    if (e != null) {
+                        LOG.error("Skipping filesystem location: " + dir + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
                     }
-                } else {
-                    resourceNames.add(file.getPath());
+                    return FileVisitResult.CONTINUE;
                 }
+            });
+        } catch (IOException e) {
+            if (throwOnMissingLocations) {
+                throw new FlywayException("Failed to find filesystem location: " + folder.getPath() + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")", e);
             }
+            LOG.error("Skipping filesystem location: " + folder.getPath() + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
+            return Collections.emptySet();
         }
 
-        return resourceNames;
+        return new TreeSet<>(resourceNames);
     }
 }
@@ -24,6 +24,7 @@ import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationPattern;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.metrics.FlywayMetrics;
 import org.flywaydb.core.api.output.CommandResultFactory;
 import org.flywaydb.core.api.output.RepairResult;
 import org.flywaydb.core.api.resolver.ResolvedMigration;
@@ -36,6 +37,9 @@ import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.ExecutionTemplateFactory;
 import org.flywaydb.core.internal.jdbc.JdbcNullTypes;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jfr.SchemaHistoryLockEvent;
+import org.flywaydb.core.internal.jfr.SchemaHistoryReadEvent;
+import org.flywaydb.core.internal.jfr.SchemaHistoryWriteEvent;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
 
@@ -75,6 +79,16 @@ class JdbcTableSchemaHistory extends SchemaHistory {
 
     private final Configuration configuration;
 
+    /**
+     * The key of this table in {@link SchemaHistorySnapshots}, or {@code null} if it has none.
+     */
+    private final String snapshotKey;
+
+    /**
+     * Whether rows read by other instances are reused, as set by cacheSchemaHistory.
+     */
+    private final boolean cacheSchemaHistory;
+
     /**
      * Creates a new instance of the schema history table support.
      *
@@ -90,11 +104,23 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         this.connection = database.getMainConnection();
         this.jdbcTemplate = connection.getJdbcTemplate();
         this.configuration = configuration;
+        this.snapshotKey = SchemaHistorySnapshots.keyOf(getJdbcUrl(database), table.toString(), AppliedMigration.class);
+        this.cacheSchemaHistory = Boolean.TRUE.equals(configuration.getModernConfig().getFlyway().getCacheSchemaHistory());
+    }
+
+    private static String getJdbcUrl(Database database) {
+        try {
+            return database.getJdbcMetaData().getURL();
+        } catch (SQLException e) {
+            LOG.debug("Unable to retrieve the JDBC connection URL, not sharing schema history snapshots: " + e.getMessage());
+            return null;
+        }
     }
 
     @Override
     public void clearCache() {
         cache.clear();
+        SchemaHistorySnapshots.invalidate(snapshotKey);
     }
 
     @Override
@@ -161,7 +187,22 @@ class JdbcTableSchemaHistory extends SchemaHistory {
     public <T> T lock(Callable<T> callable) {
         connection.restoreOriginalState();
 
-        return connection.lock(table, callable);
+        long metricsStart = FlywayMetrics.start();
+        SchemaHistoryLockEvent event = new SchemaHistoryLockEvent();
+        event.begin();
+        boolean[] acquired = { false };
+        return connection.lock(table, () -> {
+            if (!acquired[0]) {
+                acquired[0] = true;
+                FlywayMetrics.stop(FlywayMetrics.LOCK_WAIT, metricsStart);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.table = table.toString();
+                    event.commit();
+                }
+            }
+            return callable.call();
+        });
     }
 
     @Override
@@ -170,6 +211,8 @@ class JdbcTableSchemaHistory extends SchemaHistory {
                                          int executionTime, boolean success) {
         boolean tableIsLocked = false;
         connection.restoreOriginalState();
+        SchemaHistoryWriteEvent event = new SchemaHistoryWriteEvent();
+        event.begin();
 
         // Lock again for databases with no clean DDL transactions like Oracle
         // to prevent implicit commits from triggering deadlocks
@@ -200,6 +243,14 @@ class JdbcTableSchemaHistory extends SchemaHistory {
             if (tableIsLocked) {
                 table.unlock();
             }
+            event.end();
+            if (event.shouldCommit()) {
+                event.table = table.toString();
+                event.version = version == null ? null : version.toString();
+                event.script = script;
+                event.success = success;
+                event.commit();
+            }
         }
     }
 
@@ -215,8 +266,15 @@ class JdbcTableSchemaHistory extends SchemaHistory {
     }
 
     private void refreshCache() {
+        if (cache.isEmpty() && cacheSchemaHistory) {
+            restoreSnapshot();
+        }
         int maxCachedInstalledRank = cache.isEmpty() ? -1 : cache.getLast().getInstalledRank();
         String query = database.getSelectStatement(table);
+        long metricsStart = FlywayMetrics.start();
+        SchemaHistoryReadEvent event = new SchemaHistoryReadEvent();
+        event.begin();
+        int cachedRows = cache.size();
 
         try {
             cache.addAll(jdbcTemplate.query(query, rs -> {
@@ -255,6 +313,56 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         } catch (SQLException e) {
             throw new FlywaySqlException("Error while retrieving the list of applied migrations from Schema History table " + table, e);
         }
+
+        if (cacheSchemaHistory && cache.size() != cachedRows) {
+            SchemaHistorySnapshots.put(snapshotKey, cache);
+        }
+
+        FlywayMetrics.stop(FlywayMetrics.SCHEMA_HISTORY_READ, metricsStart);
+        FlywayMetrics.recordValue(FlywayMetrics.SCHEMA_HISTORY_ROWS, cache.size() - cachedRows);
+        event.end();
+        if (event.shouldCommit()) {
+            event.table = table.toString();
+            event.rowCount = cache.size() - cachedRows;
+            event.commit();
+        }
+    }
+
+    /**
+     * Seeds the cache with the rows another instance already read from this table, provided the number of rows, the
+     * sum of their checksums and the number of successful ones are unchanged, i.e. no row has been deleted and no
+     * checksum realigned since, e.g. by a clean or a repair run from another process. Descriptions and types realigned
+     * by another process aren't detected.
+     */
+    private void restoreSnapshot() {
+        List<AppliedMigration> snapshot = SchemaHistorySnapshots.get(snapshotKey);
+        String checkQuery = database.getSelectSnapshotCheckStatement(table);
+        if (snapshot.isEmpty() || checkQuery == null) {
+            return;
+        }
+
+        long checksumSum = 0;
+        long successCount = 0;
+        for (AppliedMigration appliedMigration : snapshot) {
+            checksumSum += appliedMigration.getChecksum() == null ? 0 : appliedMigration.getChecksum();
+            successCount += appliedMigration.isSuccess() ? 1 : 0;
+        }
+
+        int maxInstalledRank = snapshot.get(snapshot.size() - 1).getInstalledRank();
+        try {
+            List<long[]> aggregates = jdbcTemplate.query(checkQuery,
+                    rs -> new long[] { rs.getLong(1), rs.getLong(2), rs.getLong(3) }, maxInstalledRank);
+            if (aggregates.size() == 1
+                    && aggregates.get(0)[0] == snapshot.size()
+                    && aggregates.get(0)[1] == checksumSum
+                    && aggregates.get(0)[2] == successCount) {
+                cache.addAll(snapshot);
+                return;
+            }
+        } catch (SQLException e) {
+            LOG.debug("Unable to validate the snapshot of Schema History table " + table + ": " + e.getMessage());
+        }
+        SchemaHistorySnapshots.invalidate(snapshotKey);
     }
 
     private HashMap<String, Integer> constructColumnOrdinalMap(ResultSet rs) throws SQLException {
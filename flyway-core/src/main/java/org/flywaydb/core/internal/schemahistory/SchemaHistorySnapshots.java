@@ -0,0 +1,91 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.schemahistory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide snapshots of the rows read from schema history tables, keyed by table identity. A snapshot lets a new
+ * command start from the rows a previous command already read and only query the rows above its highest installed
+ * rank. Snapshots are only read and written when cacheSchemaHistory is enabled. Operations rewriting or deleting
+ * existing rows must invalidate the snapshot of their table either way.
+ */
+public final class SchemaHistorySnapshots {
+    private static final Map<String, List<?>> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private SchemaHistorySnapshots() {}
+
+    /**
+     * @param url     The JDBC URL of the database containing the table.
+     * @param table   The fully qualified name of the schema history table.
+     * @param rowType The type of the rows read from the table, as snapshots of different types are kept apart.
+     * @return The key identifying the table, or {@code null} if it can't be identified across connections.
+     */
+    public static String keyOf(String url, String table, Class<?> rowType) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+        return rowType.getName() + "|" + url + "|" + table;
+    }
+
+    /**
+     * @param key The key of the table, as returned by {@link #keyOf(String, String, Class)}.
+     * @return The rows of the snapshot, ordered by installed rank. An empty list if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> get(String key) {
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        List<T> rows = (List<T>) SNAPSHOTS.get(key);
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    /**
+     * Replaces the snapshot of this table.
+     *
+     * @param key  The key of the table, as returned by {@link #keyOf(String, String, Class)}.
+     * @param rows All the rows read from the table, ordered by installed rank.
+     */
+    public static void put(String key, List<?> rows) {
+        if (key == null) {
+            return;
+        }
+        if (rows.isEmpty()) {
+            SNAPSHOTS.remove(key);
+        } else {
+            SNAPSHOTS.put(key, List.copyOf(rows));
+        }
+    }
+
+    /**
+     * Discards the snapshot of this table, so the next read loads it in full again.
+     *
+     * @param key The key of the table, as returned by {@link #keyOf(String, String, Class)}.
+     */
+    public static void invalidate(String key) {
+        if (key != null) {
+            SNAPSHOTS.remove(key);
+        }
+    }
+}
@@ -21,17 +21,22 @@ package org.flywaydb.core.internal.sqlscript;
 
 import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
 import org.flywaydb.core.api.callback.Error;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.callback.Warning;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.exception.FlywayBlockStatementExecutionException;
+import org.flywaydb.core.api.metrics.FlywayMetrics;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.Result;
 import org.flywaydb.core.internal.jdbc.Results;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
+import org.flywaydb.core.internal.jfr.StatementBatchEvent;
+import org.flywaydb.core.internal.jfr.StatementEvent;
 import org.flywaydb.core.internal.util.AsciiTable;
+import org.flywaydb.core.internal.util.StreamingAsciiTable;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.sql.Statement;
@@ -68,13 +73,18 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
     /**
      * Whether to batch SQL statements.
      */
-    private final boolean batch;
+    protected final boolean batch;
 
     /**
      * Whether to output query results table.
      */
     protected final boolean outputQueryResults;
 
+    /**
+     * Whether to stream query results tables line by line instead of rendering each of them as a single block.
+     */
+    private boolean streamQueryResults;
+
 
 
     public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate,
@@ -94,6 +104,8 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
     @Override
     public List<Results> execute(SqlScript sqlScript, Configuration config) {
         final List<Results> results = new ArrayList<>(List.of());
+        streamQueryResults = outputQueryResults && config != null
+                && Boolean.TRUE.equals(config.getModernConfig().getFlyway().getStreamTableOutput());
 
 
 
@@ -154,7 +166,7 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
         }
     }
 
-    private Results executeBatch(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> batchStatements, Configuration config) {
+    protected Results executeBatch(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> batchStatements, Configuration config) {
         if (batchStatements.isEmpty()) {
             return null;
         }
@@ -171,9 +183,31 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
             sqlBatch.add(sqlStatement.getSql());
         }
 
+        long metricsStart = FlywayMetrics.start();
+        StatementBatchEvent event = new StatementBatchEvent();
+        event.begin();
         Results results = jdbcTemplate.executeBatch(sqlBatch, config);
+        event.end();
+        FlywayMetrics.stop(FlywayMetrics.STATEMENT_EXECUTE, metricsStart);
+        if (event.shouldCommit()) {
+            event.version = getMigrationVersion();
+            event.script = getScriptName(sqlScript);
+            event.firstLine = batchStatements.get(0).getLineNumber();
+            event.statementCount = sqlBatch.size();
+            event.rowCount = countRows(results);
+            event.success = results.getException() == null;
+            event.commit();
+        }
 
         if (results.getException() != null) {
+            int failed = 0;
+            for (Result result : results.getResults()) {
+                if (result.updateCount() == Statement.EXECUTE_FAILED) {
+                    failed++;
+                }
+            }
+            // Drivers stopping at the first failure may not report it as a result of its own
+            FlywayMetrics.increment(FlywayMetrics.STATEMENT_ERRORS, Math.max(failed, 1));
             handleException(results, sqlScript, batchStatements.get(0), config);
 
             for (int i = 0; i < results.getResults().size(); i++) {
@@ -209,9 +243,23 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
             return null;
         }
 
+        long metricsStart = FlywayMetrics.start();
+        StatementEvent event = new StatementEvent();
+        event.begin();
         Results results = sqlStatement.execute(jdbcTemplate, this, config);
+        event.end();
+        FlywayMetrics.stop(FlywayMetrics.STATEMENT_EXECUTE, metricsStart);
+        if (event.shouldCommit()) {
+            event.version = getMigrationVersion();
+            event.script = getScriptName(sqlScript);
+            event.line = sqlStatement.getLineNumber();
+            event.rowCount = countRows(results);
+            event.success = results.getException() == null;
+            event.commit();
+        }
 
         if (results.getException() != null) {
+            FlywayMetrics.increment(FlywayMetrics.STATEMENT_ERRORS);
             handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT_ERROR, Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, sql, results.getWarnings(), results.getErrors());
             printWarnings(results);
             handleException(results, sqlScript, sqlStatement, config);
@@ -239,12 +287,20 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
     protected void outputQueryResult(Result result) {
         if (outputQueryResults &&
                 result.columns() != null && !result.columns().isEmpty()) {
-            LOG.info(new AsciiTable(result.columns(), result.data(),
-                true, "", "No rows returned").render());
+            if (streamQueryResults) {
+                try (StreamingAsciiTable table = new StreamingAsciiTable(result.columns(), true, "", "No rows returned", LOG::info)) {
+                    for (List<String> row : result.data()) {
+                        table.addRow(row);
+                    }
+                }
+            } else {
+                LOG.info(new AsciiTable(result.columns(), result.data(),
+                    true, "", "No rows returned").render());
+            }
         }
     }
 
-    private void handleUpdateCount(long updateCount) {
+    protected void handleUpdateCount(long updateCount) {
         LOG.debug(updateCount + " row" + StringUtils.pluralizeSuffix(updateCount) + " affected");
     }
 
@@ -260,7 +316,7 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
     }
 
-    private void printWarnings(Results results) {
+    protected void printWarnings(Results results) {
         for (Warning warning : results.getWarnings()) {
 
 
@@ -277,7 +333,32 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
         }
     }
 
-    private void handleEachMigrateOrUndoStatementCallback(Event eventUndo, Event eventMigrate, String sql, List<Warning> warnings, List<Error> errors) {
+    /**
+     * @return The version of the migration being executed, or {@code null} if there is none or it is repeatable.
+     */
+    private String getMigrationVersion() {
+        MigrationInfo migrationInfo = callbackExecutor.getMigrationInfo();
+        return migrationInfo == null || migrationInfo.getVersion() == null ? null : migrationInfo.getVersion().getVersion();
+    }
+
+    private static String getScriptName(SqlScript sqlScript) {
+        return sqlScript.getResource() == null ? null : sqlScript.getResource().getFilename();
+    }
+
+    /**
+     * @return The total number of rows updated according to these results.
+     */
+    private static long countRows(Results results) {
+        long rows = 0;
+        for (Result result : results.getResults()) {
+            if (result.updateCount() > 0) {
+                rows += result.updateCount();
+            }
+        }
+        return rows;
+    }
+
+    protected void handleEachMigrateOrUndoStatementCallback(Event eventUndo, Event eventMigrate, String sql, List<Warning> warnings, List<Error> errors) {
 
 
 
@@ -21,6 +21,8 @@ package org.flywaydb.core.internal.strategy;
 
 import lombok.AllArgsConstructor;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 @AllArgsConstructor
 public class BackoffStrategy {
 
@@ -37,6 +39,15 @@ public class BackoffStrategy {
         return temp;
     }
 
+    /**
+     * @return The current value of the counter, randomly reduced by up to half so that concurrent waiters spread out,
+     * and immediately updates it with the next value
+     */
+    public int nextWithJitter() {
+        int temp = next();
+        return temp - ThreadLocalRandom.current().nextInt(temp / 2 + 1);
+    }
+
     /**
      * @return The current value of the counter without updating it
      */
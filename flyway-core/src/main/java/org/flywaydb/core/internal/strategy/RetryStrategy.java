@@ -25,54 +25,59 @@ import org.flywaydb.core.internal.util.SqlCallable;
 import java.sql.SQLException;
 
 /**
- * A class that retries a Callable a given number of times until success is obtained.
+ * A class that retries a Callable until success is obtained or the deadline derived from the number of retries passes.
  */
 public class RetryStrategy {
 
     /**
-     * We hard-code a default of 50 retries here, but this may be overridden by configuration.
+     * Each retry used to wait a fixed second, so the number of retries translates to this many milliseconds of
+     * overall waiting time.
      */
-    private static int numberOfRetries = 50;
-    private static boolean unlimitedRetries;
+    private static final long MILLIS_PER_RETRY = 1000;
+    private static final int MIN_WAIT_MILLIS = 50;
+    private static final int MAX_WAIT_MILLIS = 1000;
 
-    private int numberOfRetriesRemaining;
+    private final long deadline;
+    private final boolean unlimitedRetries;
+    private final BackoffStrategy backoffStrategy = new BackoffStrategy(MIN_WAIT_MILLIS, 2, MAX_WAIT_MILLIS);
 
     /**
-     * A class that retries a Callable a given number of times until success is obtained.
+     * A class that retries a Callable until success is obtained or the deadline derived from the given number of
+     * retries passes.
+     *
+     * @param retries The number of retries to attempt. To try forever, use -1.
      */
-    public RetryStrategy() {
-        numberOfRetriesRemaining = numberOfRetries;
+    public RetryStrategy(int retries) {
+        unlimitedRetries = retries < 0;
+        deadline = System.currentTimeMillis() + retries * MILLIS_PER_RETRY;
     }
 
     /**
-     * Set the number of retries that are to be attempted before giving up.
-     *
-     * @param retries The number of retries to attempt. To try forever, use -1.
+     * @return The time left before the deadline in milliseconds, or -1 if retries are unlimited.
      */
-    public static void setNumberOfRetries(int retries) {
-        numberOfRetries = retries;
-        unlimitedRetries = (retries < 0);
+    public long getRemainingMillis() {
+        if (unlimitedRetries) {
+            return -1;
+        }
+        return Math.max(0, deadline - System.currentTimeMillis());
     }
 
     private boolean hasMoreRetries() {
-        return (unlimitedRetries || numberOfRetriesRemaining > 0);
-    }
-
-    private void nextRetry() {
-        if (!unlimitedRetries) {
-            numberOfRetriesRemaining--;
-        }
+        return getRemainingMillis() != 0;
     }
 
-    private int nextWaitInMilliseconds() {
-        return 1000;
+    private long nextWaitInMilliseconds() {
+        long wait = backoffStrategy.nextWithJitter();
+        long remaining = getRemainingMillis();
+        return remaining < 0 ? wait : Math.min(wait, remaining);
     }
 
     /**
-     * Keep retrying a Callable with a potentially varying wait on each iteration, until one of the following happens:
+     * Keep retrying a Callable with a jittered, exponentially growing wait on each iteration, until one of the
+     * following happens:
      * - the callable returns {@code true};
      * - an InterruptedException happens
-     * - the number of retries is exceeded.
+     * - the deadline derived from the number of retries is exceeded.
      *
      * @param callable The callable to retry
      * @param interruptionMessage The message to relay if interruption happens
@@ -90,7 +95,6 @@ public class RetryStrategy {
             if (!hasMoreRetries()) {
                 throw new FlywayException(retriesExceededMessage);
             }
-            nextRetry();
         }
     }
 }
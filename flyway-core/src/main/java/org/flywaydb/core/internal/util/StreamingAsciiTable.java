@@ -0,0 +1,170 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An Ascii table that writes its lines to a sink as rows are added, instead of building the whole table in memory.
+ * Column widths are computed from the header and a bounded sample of the first rows. Later rows with longer values
+ * are truncated to those widths. Tables that fit within the sample render exactly like {@link AsciiTable}.
+ */
+public class StreamingAsciiTable implements AutoCloseable {
+    /**
+     * The default number of rows sampled to compute the column widths.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+    private final List<String> columns;
+    private final boolean printHeader;
+    private final String nullText;
+    private final String emptyText;
+    private final int sampleSize;
+    private final int maxColumnWidth;
+    private final Consumer<String> sink;
+
+    private List<List<String>> sample = new ArrayList<>();
+    private int[] widths;
+    private String ruler;
+    private boolean closed;
+
+    /**
+     * Creates a new streaming Ascii table.
+     *
+     * @param columns The column titles.
+     * @param printHeader Whether to print the header row or not.
+     * @param nullText The text to use for a {@code null} value.
+     * @param emptyText The text to include in the table if it has no rows.
+     * @param sampleSize The number of rows buffered to compute the column widths.
+     * @param maxColumnWidth The maximum width of a column, values are truncated beyond it. 0 for no maximum.
+     * @param sink Receives the rendered table one line at a time, without line terminators.
+     */
+    public StreamingAsciiTable(List<String> columns, boolean printHeader, String nullText, String emptyText,
+                               int sampleSize, int maxColumnWidth, Consumer<String> sink) {
+        this.columns = new ArrayList<>();
+        for (String column : columns) {
+            this.columns.add(column != null ? column : "(No column name)");
+        }
+        this.printHeader = printHeader;
+        this.nullText = nullText;
+        this.emptyText = emptyText;
+        this.sampleSize = Math.max(0, sampleSize);
+        this.maxColumnWidth = maxColumnWidth;
+        this.sink = sink;
+    }
+
+    /**
+     * Creates a new streaming Ascii table with the default sample size and no maximum column width.
+     */
+    public StreamingAsciiTable(List<String> columns, boolean printHeader, String nullText, String emptyText, Consumer<String> sink) {
+        this(columns, printHeader, nullText, emptyText, DEFAULT_SAMPLE_SIZE, 0, sink);
+    }
+
+    /**
+     * Adds a row. It is written straight away once the column widths are known, and buffered before that.
+     */
+    public void addRow(List<String> row) {
+        if (widths != null) {
+            writeRow(row);
+            return;
+        }
+        sample.add(row);
+        if (sample.size() >= sampleSize) {
+            writeHeaderAndSample();
+        }
+    }
+
+    /**
+     * Writes any buffered rows and the closing ruler.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        boolean empty = widths == null && sample.isEmpty();
+        if (widths == null) {
+            writeHeaderAndSample();
+        }
+        if (empty) {
+            // Matches AsciiTable, whose ruler length includes its line terminator
+            int rulerLength = ruler.length() + 1;
+            sink.accept("| " + StringUtils.trimOrPad(emptyText, rulerLength - Math.min(rulerLength, 5)) + " |");
+        }
+        sink.accept(ruler);
+    }
+
+    private void writeHeaderAndSample() {
+        widths = new int[columns.size()];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = capWidth(columns.get(i).length());
+        }
+        for (List<String> row : sample) {
+            for (int i = 0; i < row.size() && i < widths.length; i++) {
+                widths[i] = Math.max(widths[i], capWidth(getValue(row, i).length()));
+            }
+        }
+
+        StringBuilder rulerBuilder = new StringBuilder("+");
+        for (int width : widths) {
+            rulerBuilder.append("-").append(StringUtils.trimOrPad("", width, '-')).append("-+");
+        }
+        ruler = rulerBuilder.toString();
+
+        if (printHeader) {
+            StringBuilder header = new StringBuilder("|");
+            for (int i = 0; i < widths.length; i++) {
+                header.append(" ").append(StringUtils.trimOrPad(columns.get(i), widths[i], ' ')).append(" |");
+            }
+            sink.accept(ruler);
+            sink.accept(header.toString());
+        }
+        sink.accept(ruler);
+
+        for (List<String> row : sample) {
+            writeRow(row);
+        }
+        sample = null;
+    }
+
+    private void writeRow(List<String> row) {
+        StringBuilder line = new StringBuilder("|");
+        for (int i = 0; i < widths.length; i++) {
+            line.append(" ").append(StringUtils.trimOrPad(i < row.size() ? getValue(row, i) : "", widths[i], ' ')).append(" |");
+        }
+        sink.accept(line.toString());
+    }
+
+    private int capWidth(int width) {
+        return maxColumnWidth > 0 ? Math.min(width, maxColumnWidth) : width;
+    }
+
+    private String getValue(List<String> row, int i) {
+        String value = row.get(i);
+        if (value == null) {
+            value = nullText;
+        }
+        return value;
+    }
+}
@@ -106,6 +106,11 @@ public class CassandraDatabase extends Database<CassandraConnection> {
             + " ALLOW FILTERING";
     }
 
+    @Override
+    public String getSelectSnapshotCheckStatement(Table table) {
+        return null;
+    }
+
     @Override
     public String getInsertStatement(Table table) {
         // Explicitly set installed_on to CURRENT_TIMESTAMP().
@@ -80,6 +80,11 @@ public class DB2Database extends Database<DB2Connection> {
                 + " WITH UR";
     }
 
+    @Override
+    public String getSelectSnapshotCheckStatement(Table table) {
+        return super.getSelectSnapshotCheckStatement(table) + " WITH UR";
+    }
+
     @Override
     protected String doGetCurrentUser() throws SQLException {
         return getMainConnection().getJdbcTemplate().queryForString("select CURRENT_USER from sysibm.sysdummy1");
@@ -121,6 +121,11 @@ public class MongoDBDatabase extends Database<MongoDBConnection> {
                 + "})";
     }
 
+    @Override
+    public String getSelectSnapshotCheckStatement(Table table) {
+        return null;
+    }
+
     @Override
     public Pair<String, Object> getDeleteStatement(Table table, boolean version, String filter) {
         String deleteStatement =  "db.getSiblingDB('" + table.getSchema().getName() + "')." + table.getName() + ".deleteMany({ 'success': " + getBooleanFalse() + ", " +
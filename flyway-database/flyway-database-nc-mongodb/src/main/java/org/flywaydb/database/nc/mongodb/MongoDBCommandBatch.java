@@ -0,0 +1,189 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-nc-mongodb
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.nc.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.flywaydb.core.api.FlywayException;
+
+/**
+ * A command sent to the database for one or more of the commands of a JSON migration. Consecutive insert, update or
+ * delete commands on the same collection and with the same options are merged into a single command holding all of
+ * their documents or statements, which the server applies in order and stops at the first error, just like it would
+ * when running the commands one after the other.
+ */
+class MongoDBCommandBatch {
+    /**
+     * The write commands that can be merged, with the name of the field holding their operations.
+     */
+    private static final Map<String, String> WRITE_COMMANDS = Map.of("insert", "documents",
+        "update", "updates",
+        "delete", "deletes");
+    private static final int MAX_OPERATIONS = 1000;
+    private static final int MAX_BYTES = 8 * 1024 * 1024;
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+    private final BsonDocument options;
+    private final String operationsField;
+    private final BsonArray operations = new BsonArray();
+    /**
+     * For each operation, the position of the command it comes from and its position within that command.
+     */
+    private final List<int[]> origins = new ArrayList<>();
+    private final int firstCommand;
+    private int lastCommand;
+    private int bytes;
+
+    private MongoDBCommandBatch(final BsonDocument options, final String operationsField, final int command) {
+        this.options = options;
+        this.operationsField = operationsField;
+        this.firstCommand = command;
+        this.lastCommand = command;
+    }
+
+    /**
+     * Parses a JSON migration, which holds either a single command document or an array of command documents.
+     */
+    static List<BsonDocument> parseCommands(final String script) {
+        if (!script.strip().startsWith("[")) {
+            return List.of(BsonDocument.parse(script));
+        }
+        final List<BsonDocument> commands = new ArrayList<>();
+        for (final BsonValue value : BsonArray.parse(script)) {
+            if (!value.isDocument()) {
+                throw new FlywayException("Each element of a JSON migration holding an array must be a command document");
+            }
+            commands.add(value.asDocument());
+        }
+        return commands;
+    }
+
+    /**
+     * Groups the commands into the commands to send to the database, preserving their order.
+     */
+    static List<MongoDBCommandBatch> batch(final List<BsonDocument> commands) {
+        final List<MongoDBCommandBatch> batches = new ArrayList<>();
+        MongoDBCommandBatch current = null;
+        for (int i = 0; i < commands.size(); i++) {
+            final BsonDocument command = commands.get(i);
+            final String operationsField = getOperationsField(command);
+            if (operationsField == null) {
+                current = null;
+                batches.add(new MongoDBCommandBatch(command, null, i));
+                continue;
+            }
+
+            final BsonDocument options = command.clone();
+            final BsonArray commandOperations = options.remove(operationsField).asArray();
+            options.remove("ordered");
+            final int size = sizeOf(commandOperations);
+            if (current == null || !current.canAppend(options, operationsField, commandOperations.size(), size)) {
+                current = new MongoDBCommandBatch(options, operationsField, i);
+                batches.add(current);
+            }
+            current.append(commandOperations, size, i);
+        }
+        return batches;
+    }
+
+    /**
+     * @return The name of the field holding the operations of the command, or {@code null} if it can't be merged.
+     */
+    private static String getOperationsField(final BsonDocument command) {
+        if (command.isEmpty()) {
+            return null;
+        }
+        final String operationsField = WRITE_COMMANDS.get(command.getFirstKey());
+        if (operationsField == null
+            || !command.isArray(operationsField)
+            || (command.containsKey("ordered") && !command.getBoolean("ordered").getValue())) {
+            return null;
+        }
+        for (final BsonValue operation : command.getArray(operationsField)) {
+            if (!operation.isDocument()) {
+                return null;
+            }
+        }
+        return operationsField;
+    }
+
+    private boolean canAppend(final BsonDocument options,
+        final String operationsField,
+        final int operationCount,
+        final int size) {
+        return this.operationsField != null
+            && this.operationsField.equals(operationsField)
+            && this.options.equals(options)
+            && operations.size() + operationCount <= MAX_OPERATIONS
+            && bytes + size <= MAX_BYTES;
+    }
+
+    private void append(final BsonArray commandOperations, final int size, final int command) {
+        for (int i = 0; i < commandOperations.size(); i++) {
+            operations.add(commandOperations.get(i));
+            origins.add(new int[] { command, i });
+        }
+        bytes += size;
+        lastCommand = command;
+    }
+
+    private static int sizeOf(final BsonArray operations) {
+        int size = 0;
+        for (final BsonValue operation : operations) {
+            size += new RawBsonDocument(operation.asDocument(), CODEC).getByteBuffer().remaining();
+        }
+        return size;
+    }
+
+    BsonDocument getCommand() {
+        if (operationsField == null) {
+            return options;
+        }
+        final BsonDocument command = options.clone();
+        command.put(operationsField, operations);
+        return command;
+    }
+
+    /**
+     * Describes where the operation at the given position of this command comes from in the migration.
+     */
+    String describeOperation(final int index) {
+        if (operationsField == null || index < 0 || index >= origins.size()) {
+            return describe();
+        }
+        final int[] origin = origins.get(index);
+        return "command " + (origin[0] + 1) + ", " + operationsField + " entry " + (origin[1] + 1);
+    }
+
+    /**
+     * Describes the commands of the migration this command was built from.
+     */
+    String describe() {
+        return firstCommand == lastCommand
+            ? "command " + (firstCommand + 1)
+            : "commands " + (firstCommand + 1) + " to " + (lastCommand + 1);
+    }
+}
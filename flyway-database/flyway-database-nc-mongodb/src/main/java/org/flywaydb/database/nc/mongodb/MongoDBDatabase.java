@@ -166,16 +166,30 @@ public class MongoDBDatabase extends AbstractExperimentalDatabase <NonJdbcExecut
     public void doExecute(final NonJdbcExecutorExecutionUnit executionUnit, final boolean outputQueryResults) {
         switch (connectionType) {
             case API:
+                final List<BsonDocument> commands;
                 try {
-                    final Document result = mongoDatabase.runCommand(clientSession, BsonDocument.parse(executionUnit.getScript()));
+                    commands = MongoDBCommandBatch.parseCommands(executionUnit.getScript());
+                } catch (FlywayException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new FlywayException(e);
+                }
+                for (final MongoDBCommandBatch batch : MongoDBCommandBatch.batch(commands)) {
+                    final Document result;
+                    try {
+                        result = mongoDatabase.runCommand(clientSession, batch.getCommand());
+                    } catch (Exception e) {
+                        if (commands.size() == 1) {
+                            throw new FlywayException(e);
+                        }
+                        throw new FlywayException("Error executing " + batch.describe() + ": " + e.getMessage(), e);
+                    }
                     if (result.containsKey("writeErrors")) {
-                        handleWriteErrors(result);
+                        handleWriteErrors(result, commands.size() == 1 ? null : batch);
                     }
                     if (outputQueryResults) {
                         parseResults(result);
                     }
-                } catch (Exception e) {
-                    throw new FlywayException(e);
                 }
                 return;
             case EXECUTABLE:
@@ -501,9 +515,13 @@ public class MongoDBDatabase extends AbstractExperimentalDatabase <NonJdbcExecut
         connectionType = ".json".equals(migrationSuffix) ? ConnectionType.API : ConnectionType.EXECUTABLE;
     }
 
-    private void handleWriteErrors(Document result) {
+    private void handleWriteErrors(final Document result, final MongoDBCommandBatch batch) {
         final List<Document> writeErrors = result.getList("writeErrors", Document.class);
         final String errMsg = writeErrors.get(0).getString("errmsg");
-        throw new FlywayException(errMsg);
+        if (batch == null) {
+            throw new FlywayException(errMsg);
+        }
+        final Integer index = writeErrors.get(0).getInteger("index");
+        throw new FlywayException("Error executing " + batch.describeOperation(index == null ? -1 : index) + ": " + errMsg);
     }
 }
@@ -0,0 +1,147 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-oracle
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.oracle;
+
+import lombok.CustomLog;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.JdbcUtils;
+
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drops schema objects server-side in anonymous PL/SQL blocks, so cleaning a schema costs a few round trips per
+ * object type instead of one per object. Each drop runs in its own exception handler; failures are collected and
+ * reported back instead of aborting the block.
+ */
+@CustomLog
+class OracleBulkDropper {
+    /**
+     * The maximum number of client-generated drop statements sent in a single block.
+     */
+    private static final int MAX_STATEMENTS_PER_BLOCK = 500;
+    /**
+     * The maximum length of the failure report collected in a block, safely below the VARCHAR2 limit.
+     */
+    private static final int MAX_FAILURE_REPORT_LENGTH = 30000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<String> failures = new ArrayList<>();
+    private int failureCount;
+
+    OracleBulkDropper(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Drops all objects of a type listed in ALL_OBJECTS by looping over the data dictionary server-side.
+     *
+     * @param schemaName The schema owning the objects, unquoted case-sensitive.
+     * @param objectType The object type as it appears in ALL_OBJECTS.
+     * @param dropPrefix The start of the DROP statement, up to and including the quoted schema and the dot.
+     * @param dropSuffix The end of the DROP statement following the object name, e.g. its drop options.
+     */
+    void dropAllOfType(String schemaName, String objectType, String dropPrefix, String dropSuffix) throws SQLException {
+        String body = "  FOR o IN (SELECT DISTINCT OBJECT_NAME FROM ALL_OBJECTS WHERE OWNER = " + literal(schemaName)
+                + " AND OBJECT_TYPE = " + literal(objectType) + ") LOOP\n"
+                + "    run(" + literal(dropPrefix + "\"") + " || o.OBJECT_NAME || " + literal("\"" + dropSuffix) + ");\n"
+                + "  END LOOP;\n";
+        executeBlock(body);
+    }
+
+    /**
+     * Executes the given drop statements in as few blocks as possible.
+     */
+    void dropAll(List<String> dropStatements) throws SQLException {
+        for (int start = 0; start < dropStatements.size(); start += MAX_STATEMENTS_PER_BLOCK) {
+            StringBuilder body = new StringBuilder();
+            for (String dropStatement : dropStatements.subList(start, Math.min(start + MAX_STATEMENTS_PER_BLOCK, dropStatements.size()))) {
+                body.append("  run(").append(literal(dropStatement)).append(");\n");
+            }
+            executeBlock(body.toString());
+        }
+    }
+
+    /**
+     * @return The failures collected so far, one per dropped object that could not be dropped.
+     */
+    List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return The total number of failed drops, which may exceed the number of reported failures.
+     */
+    int getFailureCount() {
+        return failureCount;
+    }
+
+    private void executeBlock(String body) throws SQLException {
+        String block = "DECLARE\n"
+                + "  failures VARCHAR2(32767);\n"
+                + "  failure_count PLS_INTEGER := 0;\n"
+                + "  PROCEDURE run(stmt VARCHAR2) IS\n"
+                + "  BEGIN\n"
+                + "    EXECUTE IMMEDIATE stmt;\n"
+                + "  EXCEPTION\n"
+                // Objects already dropped along with another object (ORA-00942, ORA-04043) are not failures
+                + "    WHEN OTHERS THEN\n"
+                + "      IF SQLCODE NOT IN (-942, -4043) THEN\n"
+                + "        failure_count := failure_count + 1;\n"
+                + "        IF NVL(LENGTH(failures), 0) < " + MAX_FAILURE_REPORT_LENGTH + " THEN\n"
+                + "          failures := failures || SUBSTR(stmt || ': ' || SQLERRM, 1, 1000) || CHR(10);\n"
+                + "        END IF;\n"
+                + "      END IF;\n"
+                + "  END;\n"
+                + "BEGIN\n"
+                + body
+                + "  ? := failure_count;\n"
+                + "  ? := failures;\n"
+                + "END;";
+
+        CallableStatement statement = null;
+        try {
+            statement = jdbcTemplate.getConnection().prepareCall(block);
+            statement.registerOutParameter(1, Types.INTEGER);
+            statement.registerOutParameter(2, Types.VARCHAR);
+            statement.execute();
+
+            failureCount += statement.getInt(1);
+            String report = statement.getString(2);
+            if (report != null) {
+                for (String failure : report.split("\n")) {
+                    if (!failure.isEmpty()) {
+                        LOG.debug("Unable to drop: " + failure);
+                        failures.add(failure);
+                    }
+                }
+            }
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+    }
+
+    private static String literal(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
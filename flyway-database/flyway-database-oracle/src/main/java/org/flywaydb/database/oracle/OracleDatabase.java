@@ -104,6 +104,12 @@ public class OracleDatabase extends Database<OracleConnection> {
         return false;
     }
 
+    @Override
+    protected String getChecksumSumExpression() {
+        // SUM returns a NUMBER, which can't overflow, and BIGINT isn't a valid type to cast to
+        return "SUM(COALESCE(" + quote("checksum") + ", 0))";
+    }
+
     @Override
     public String getBooleanTrue() {
         return "1";
@@ -27,6 +27,7 @@ import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -88,6 +89,11 @@ import static org.flywaydb.database.oracle.OracleSchema.ObjectType.supportedType
  */
 @CustomLog
 public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
+    /**
+     * The dropper used while cleaning in bulk mode. {@code null} when objects are dropped one statement at a time.
+     */
+    private OracleBulkDropper bulkDropper;
+
     /**
      * Creates a new Oracle schema.
      *
@@ -218,18 +224,33 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
                 JAVA_DATA
                                                            );
 
-        for (ObjectType objectType : objectTypesToClean) {
-            if (objectTypeNames.contains(objectType.getName())) {
-                LOG.debug("Cleaning objects of type " + objectType + " ...");
-                objectType.dropObjects(jdbcTemplate, database, this);
+        bulkDropper = isBulkCleanEnabled() ? new OracleBulkDropper(jdbcTemplate) : null;
+        try {
+            for (ObjectType objectType : objectTypesToClean) {
+                if (objectTypeNames.contains(objectType.getName())) {
+                    LOG.debug("Cleaning objects of type " + objectType + " ...");
+                    objectType.dropObjects(jdbcTemplate, database, this);
+                }
             }
-        }
 
-        if (isDefaultSchemaForUser()) {
-            jdbcTemplate.execute("PURGE RECYCLEBIN");
+            if (isDefaultSchemaForUser()) {
+                jdbcTemplate.execute("PURGE RECYCLEBIN");
+            }
+
+            if (bulkDropper != null && bulkDropper.getFailureCount() > 0) {
+                throw new FlywayException("Unable to drop " + bulkDropper.getFailureCount() + " object(s) while cleaning schema "
+                                                  + database.quote(name) + ":\n" + String.join("\n", bulkDropper.getFailures()));
+            }
+        } finally {
+            bulkDropper = null;
         }
     }
 
+    private boolean isBulkCleanEnabled() {
+        OracleConfigurationExtension configurationExtension = database.getConfiguration().getPluginRegister().getPlugin(OracleConfigurationExtension.class);
+        return configurationExtension != null && Boolean.TRUE.equals(configurationExtension.getBulkClean());
+    }
+
     /**
      * Executes ALTER statements for all tables that have Flashback Archive enabled.
      * Flashback Archive is an asynchronous process so we need to wait until it completes, otherwise cleaning the
@@ -800,11 +821,37 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
          * @throws SQLException if cleaning failed.
          */
         public void dropObjects(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            if (schema.bulkDropper != null) {
+                dropObjectsInBulk(jdbcTemplate, database, schema, schema.bulkDropper);
+                return;
+            }
             for (String objectName : getObjectNames(jdbcTemplate, database, schema)) {
                 jdbcTemplate.execute(generateDropStatement(jdbcTemplate, database, schema, objectName));
             }
         }
 
+        /**
+         * Drops all objects of this type in the specified schema using server-side PL/SQL blocks.
+         *
+         * @throws SQLException if a block could not be executed.
+         */
+        private void dropObjectsInBulk(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema, OracleBulkDropper bulkDropper) throws SQLException {
+            // Constants without a body are listed in ALL_OBJECTS and use the default DROP statement,
+            // so the data dictionary can be looped over server-side.
+            if (getClass() == ObjectType.class) {
+                bulkDropper.dropAllOfType(schema.getName(), getName(),
+                                          "DROP " + getName() + " " + database.quote(schema.getName()) + ".",
+                                          StringUtils.hasText(dropOptions) ? " " + dropOptions : "");
+                return;
+            }
+
+            List<String> dropStatements = new ArrayList<>();
+            for (String objectName : getObjectNames(jdbcTemplate, database, schema)) {
+                dropStatements.add(generateDropStatement(jdbcTemplate, database, schema, objectName));
+            }
+            bulkDropper.dropAll(dropStatements);
+        }
+
         private void warnUnsupported(String schemaName, String typeDesc) {
             LOG.warn("Unable to clean " + typeDesc + " for schema " + schemaName + ": unsupported operation");
         }
@@ -35,6 +35,13 @@ import java.util.concurrent.Callable;
 
 @CustomLog
 public class PostgreSQLAdvisoryLockTemplate {
+    /**
+     * The SQL state reported when a lock wait exceeds lock_timeout.
+     */
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+    private static final String RETRIES_EXCEEDED_MESSAGE = "Number of retries exceeded while attempting to acquire PostgreSQL advisory lock. " +
+            "Configure the number of retries with the 'lockRetryCount' configuration option: " + FlywayDbWebsiteLinks.LOCK_RETRY_COUNT;
+
     private static final long LOCK_MAGIC_NUM =
             (0x46L << 40) // F
                     + (0x6CL << 32) // l
@@ -57,11 +64,13 @@ public class PostgreSQLAdvisoryLockTemplate {
         PostgreSQLConfigurationExtension configurationExtension = configuration.getPluginRegister().getPlugin(PostgreSQLConfigurationExtension.class);
 
         if (configurationExtension.isTransactionalLock()) {
-            return new TransactionalExecutionTemplate(jdbcTemplate.getConnection(), true).execute(() -> execute(callable, this::tryLockTransactional));
+            SqlCallable<Boolean> lock = configurationExtension.isBlockingLock() ? this::lockTransactionalBlocking : this::tryLockTransactional;
+            return new TransactionalExecutionTemplate(jdbcTemplate.getConnection(), true).execute(() -> execute(callable, lock));
         } else {
+            SqlCallable<Boolean> lock = configurationExtension.isBlockingLock() ? this::lockBlocking : this::tryLock;
             RuntimeException rethrow = null;
             try {
-                return execute(callable, this::tryLock);
+                return execute(callable, lock);
             } catch (RuntimeException e) {
                 rethrow = e;
                 throw rethrow;
@@ -86,10 +95,62 @@ public class PostgreSQLAdvisoryLockTemplate {
     }
 
     private void lock(SqlCallable<Boolean> tryLock) throws SQLException {
-        RetryStrategy strategy = new RetryStrategy();
-        strategy.doWithRetries(tryLock, "Interrupted while attempting to acquire PostgreSQL advisory lock",
-                               "Number of retries exceeded while attempting to acquire PostgreSQL advisory lock. " +
-                                       "Configure the number of retries with the 'lockRetryCount' configuration option: " + FlywayDbWebsiteLinks.LOCK_RETRY_COUNT);
+        RetryStrategy strategy = new RetryStrategy(configuration.getLockRetryCount());
+        strategy.doWithRetries(tryLock, "Interrupted while attempting to acquire PostgreSQL advisory lock", RETRIES_EXCEEDED_MESSAGE);
+    }
+
+    /**
+     * Waits for the lock on the server, bounded by lock_timeout set to the overall deadline, so the lock is handed
+     * over as soon as it is released instead of at the next poll. The original lock_timeout is restored once the lock
+     * is held, so it still applies to the statements of the migration run in the same transaction.
+     */
+    private boolean lockTransactionalBlocking() throws SQLException {
+        String originalLockTimeout = jdbcTemplate.queryForString("SHOW lock_timeout");
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + getLockTimeoutMillis());
+        boolean locked = false;
+        try {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(" + lockNum + ")", rs -> null);
+            locked = true;
+            return true;
+        } catch (SQLException e) {
+            throw lockTimeoutToFlywayException(e);
+        } finally {
+            // On failure the transaction is aborted and its rollback reverts the SET LOCAL
+            if (locked) {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + originalLockTimeout + "'");
+            }
+        }
+    }
+
+    private boolean lockBlocking() throws SQLException {
+        String originalLockTimeout = jdbcTemplate.queryForString("SHOW lock_timeout");
+        jdbcTemplate.execute("SET lock_timeout = " + getLockTimeoutMillis());
+        try {
+            jdbcTemplate.query("SELECT pg_advisory_lock(" + lockNum + ")", rs -> null);
+            return true;
+        } catch (SQLException e) {
+            throw lockTimeoutToFlywayException(e);
+        } finally {
+            jdbcTemplate.execute("SET lock_timeout = '" + originalLockTimeout + "'");
+        }
+    }
+
+    /**
+     * @return The lock timeout matching the configured number of retries, or 0 (no timeout) for unlimited retries.
+     */
+    private long getLockTimeoutMillis() {
+        long remainingMillis = new RetryStrategy(configuration.getLockRetryCount()).getRemainingMillis();
+        if (remainingMillis < 0) {
+            return 0;
+        }
+        return Math.max(1, remainingMillis);
+    }
+
+    private RuntimeException lockTimeoutToFlywayException(SQLException e) {
+        if (LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+            return new FlywayException(RETRIES_EXCEEDED_MESSAGE, e);
+        }
+        return new FlywaySqlException("Unable to acquire PostgreSQL advisory lock", e);
     }
 
     private boolean tryLockTransactional() throws SQLException {
@@ -25,8 +25,26 @@ import org.flywaydb.core.extensibility.ConfigurationExtension;
 @Data
 public class PostgreSQLConfigurationExtension implements ConfigurationExtension {
     private static final String TRANSACTIONAL_LOCK = "flyway.postgresql.transactional.lock";
+    private static final String BLOCKING_LOCK = "flyway.postgresql.blockingLock";
+    private static final String FAST_CLEAN = "flyway.postgresql.fastClean";
 
     private TransactionalModel transactional = null;
+    /**
+     * Whether to wait for the advisory lock on the server instead of polling for it.
+     */
+    private Boolean blockingLock = null;
+    /**
+     * Whether to clean schemas by sending the drop statements of each object class in server-side DO blocks.
+     */
+    private Boolean fastClean = null;
+
+    public boolean isBlockingLock() {
+        return blockingLock != null && blockingLock;
+    }
+
+    public boolean isFastClean() {
+        return fastClean != null && fastClean;
+    }
 
     public boolean isTransactionalLock() {
         // null is default, default is true, done this way for merge reasons.
@@ -42,6 +60,12 @@ public class PostgreSQLConfigurationExtension implements ConfigurationExtension
         if ("FLYWAY_POSTGRESQL_TRANSACTIONAL_LOCK".equals(environmentVariable)) {
             return TRANSACTIONAL_LOCK;
         }
+        if ("FLYWAY_POSTGRESQL_BLOCKING_LOCK".equals(environmentVariable)) {
+            return BLOCKING_LOCK;
+        }
+        if ("FLYWAY_POSTGRESQL_FAST_CLEAN".equals(environmentVariable)) {
+            return FAST_CLEAN;
+        }
         return null;
     }
 
@@ -138,6 +138,11 @@ public class PostgreSQLDatabase extends Database<PostgreSQLConnection> {
                 + " ORDER BY " + quote("installed_rank");
     }
 
+    @Override
+    public String getSelectSnapshotCheckStatement(Table table) {
+        return "/*NO LOAD BALANCE*/\n" + super.getSelectSnapshotCheckStatement(table);
+    }
+
     @Override
     public String getDatabaseHosting() {
         if (getMainConnection().isAwsRds() || DATABASE_HOSTING_RDS_URL_IDENTIFIER.matcher(configuration.getUrl()).find()) {
@@ -37,6 +37,15 @@ import java.util.Map;
  * PostgreSQL implementation of Schema.
  */
 public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable> {
+    /**
+     * The maximum number of drop statements sent in a single DO block when cleaning in fast mode.
+     */
+    private static final int MAX_STATEMENTS_PER_BLOCK = 1000;
+    /**
+     * The dollar-quote tag delimiting the body of the DO blocks sent when cleaning in fast mode.
+     */
+    private static final String DO_BLOCK_QUOTE = "$flyway_clean$";
+
     /**
      * Creates a new PostgreSQL schema.
      *
@@ -85,52 +94,84 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
 
     @Override
     protected void doClean() throws SQLException {
+        boolean fastClean = isFastCleanEnabled();
+
         if (database.getVersion().isAtLeast("9.3")) {
-            for (String statement : generateDropStatementsForMaterializedViews()) {
-                jdbcTemplate.execute(statement);
-            }
+            executeDropStatements(generateDropStatementsForMaterializedViews(), fastClean);
         }
 
-        for (String statement : generateDropStatementsForViews()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(generateDropStatementsForViews(), fastClean);
 
-        for (Table table : allTables()) {
-            table.drop();
+        if (fastClean) {
+            List<String> statements = new ArrayList<>();
+            for (Table table : allTables()) {
+                statements.add("DROP TABLE " + database.quote(name, table.getName()) + " CASCADE");
+            }
+            executeDropStatements(statements, true);
+        } else {
+            for (Table table : allTables()) {
+                table.drop();
+            }
         }
 
-        for (String statement : generateDropStatementsForBaseTypes(true)) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(generateDropStatementsForBaseTypes(true), fastClean);
+        executeDropStatements(generateDropStatementsForRoutines(), fastClean);
+        executeDropStatements(generateDropStatementsForEnums(), fastClean);
+        executeDropStatements(generateDropStatementsForDomains(), fastClean);
+        executeDropStatements(generateDropStatementsForSequences(), fastClean);
+        executeDropStatements(generateDropStatementsForBaseTypes(false), fastClean);
 
-        for (String statement : generateDropStatementsForRoutines()) {
-            jdbcTemplate.execute(statement);
+        if (Objects.equals(LicenseGuard.getTierAsString(database.getConfiguration()), "OSS")) {
+            executeDropStatements(generateDropStatementsForCollations(), fastClean);
         }
 
-        for (String statement : generateDropStatementsForEnums()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(generateDropStatementsForExtensions(), fastClean);
+    }
 
-        for (String statement : generateDropStatementsForDomains()) {
-            jdbcTemplate.execute(statement);
-        }
+    private boolean isFastCleanEnabled() {
+        PostgreSQLConfigurationExtension configurationExtension = database.getConfiguration().getPluginRegister().getPlugin(PostgreSQLConfigurationExtension.class);
+        // DO blocks are only available from PostgreSQL 9.0
+        return configurationExtension != null && configurationExtension.isFastClean() && database.getVersion().isAtLeast("9.0");
+    }
 
-        for (String statement : generateDropStatementsForSequences()) {
-            jdbcTemplate.execute(statement);
+    /**
+     * Executes the drop statements of one object class. In fast clean mode they are sent in server-side DO blocks of up
+     * to {@link #MAX_STATEMENTS_PER_BLOCK} statements each, otherwise one statement per round trip.
+     *
+     * @param statements The drop statements, in the order they must be executed.
+     * @param fastClean Whether to batch the statements into DO blocks.
+     * @throws SQLException when a statement could not be executed.
+     */
+    private void executeDropStatements(List<String> statements, boolean fastClean) throws SQLException {
+        if (!fastClean || statements.size() < 2) {
+            for (String statement : statements) {
+                jdbcTemplate.execute(statement);
+            }
+            return;
         }
 
-        for (String statement : generateDropStatementsForBaseTypes(false)) {
-            jdbcTemplate.execute(statement);
-        }
+        for (int start = 0; start < statements.size(); start += MAX_STATEMENTS_PER_BLOCK) {
+            List<String> batch = statements.subList(start, Math.min(start + MAX_STATEMENTS_PER_BLOCK, statements.size()));
 
-        if (Objects.equals(LicenseGuard.getTierAsString(database.getConfiguration()), "OSS")) {
-            for (String statement : generateDropStatementsForCollations()) {
-                jdbcTemplate.execute(statement);
+            StringBuilder block = new StringBuilder("DO " + DO_BLOCK_QUOTE + "\nBEGIN\n");
+            boolean quotable = true;
+            for (String statement : batch) {
+                // An object name containing the dollar-quote tag would end the block early
+                if (statement.contains(DO_BLOCK_QUOTE)) {
+                    quotable = false;
+                    break;
+                }
+                block.append("  ").append(statement).append(";\n");
             }
-        }
+            block.append("END\n").append(DO_BLOCK_QUOTE);
 
-        for (String statement : generateDropStatementsForExtensions()) {
-            jdbcTemplate.execute(statement);
+            if (quotable) {
+                jdbcTemplate.execute(block.toString());
+            } else {
+                for (String statement : batch) {
+                    jdbcTemplate.execute(statement);
+                }
+            }
         }
     }
 
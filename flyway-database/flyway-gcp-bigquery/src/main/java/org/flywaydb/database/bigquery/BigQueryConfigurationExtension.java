@@ -0,0 +1,50 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gcp-bigquery
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.bigquery;
+
+import lombok.Data;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+@Data
+public class BigQueryConfigurationExtension implements ConfigurationExtension {
+    private static final String CLEAN_PARALLELISM = "flyway.bigquery.cleanParallelism";
+
+    /**
+     * The maximum number of drop statements run concurrently, each on its own connection, when cleaning a dataset.
+     */
+    private Integer cleanParallelism = null;
+
+    public int getCleanParallelismOrDefault() {
+        return cleanParallelism == null ? 1 : cleanParallelism;
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(String environmentVariable) {
+        if ("FLYWAY_BIGQUERY_CLEAN_PARALLELISM".equals(environmentVariable)) {
+            return CLEAN_PARALLELISM;
+        }
+        return null;
+    }
+
+    @Override
+    public String getNamespace() {
+        return "bigquery";
+    }
+}
@@ -57,6 +57,14 @@ public class BigQueryDatabase extends Database<BigQueryConnection> {
         return new BigQueryConnection(this, connection);
     }
 
+    /**
+     * Opens an additional connection to the database, on which statements can run while the main connection is busy.
+     * The caller is responsible for closing it.
+     */
+    Connection openAdditionalConnection() {
+        return jdbcConnectionFactory.openConnection();
+    }
+
     @Override
     public void ensureSupported(Configuration configuration) {
         if (!LicenseGuard.isLicensed(configuration, Tier.PREMIUM)) {
@@ -19,14 +19,25 @@
  */
 package org.flywaydb.database.bigquery;
 
+import lombok.CustomLog;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.JdbcUtils;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@CustomLog
 public class BigQuerySchema extends Schema<BigQueryDatabase, BigQueryTable> {
     BigQuerySchema(JdbcTemplate jdbcTemplate, BigQueryDatabase database, String name) {
         super(jdbcTemplate, database, name);
@@ -72,31 +83,112 @@ public class BigQuerySchema extends Schema<BigQueryDatabase, BigQueryTable> {
 
     @Override
     protected void doClean() throws SQLException {
-        for (String statement : generateDropStatements("BASE TABLE", "TABLE")) {
-            jdbcTemplate.execute(statement);
+        int parallelism = database.getConfiguration().getPluginRegister()
+                .getPlugin(BigQueryConfigurationExtension.class).getCleanParallelismOrDefault();
+        if (parallelism <= 1) {
+            for (List<String> phase : generateDropPhases()) {
+                for (String statement : phase) {
+                    jdbcTemplate.execute(statement);
+                }
+            }
+            return;
         }
-        for (String statement : generateDropStatements("SNAPSHOT", "SNAPSHOT TABLE")) {
-            jdbcTemplate.execute(statement);
+
+        // Each DDL statement is a job taking about a second in BigQuery, so the independent drops of each phase are
+        // run concurrently on additional connections. The phases themselves still run one after the other.
+        List<JdbcTemplate> templates = new ArrayList<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "flyway-bigquery-clean-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (List<String> phase : generateDropPhases()) {
+                executeConcurrently(phase, parallelism, templates, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+            for (JdbcTemplate template : templates) {
+                JdbcUtils.closeConnection(template.getConnection());
+            }
         }
-        for (String statement : generateDropStatements("CLONE", "TABLE")) {
-            jdbcTemplate.execute(statement);
+    }
+
+    /**
+     * Generates the drop statements for all objects in this schema, grouped into phases that must run in order. The
+     * statements within a phase are independent of each other.
+     */
+    private List<List<String>> generateDropPhases() throws SQLException {
+        List<List<String>> phases = new ArrayList<>();
+        phases.add(generateDropStatements("BASE TABLE", "TABLE"));
+        phases.add(generateDropStatements("SNAPSHOT", "SNAPSHOT TABLE"));
+        phases.add(generateDropStatements("CLONE", "TABLE"));
+        phases.add(generateDropStatements("EXTERNAL", "EXTERNAL TABLE"));
+        phases.add(generateDropStatements("VIEW", "VIEW"));
+        phases.add(generateDropStatements("MATERIALIZED VIEW", "MATERIALIZED VIEW"));
+        phases.add(generateDropStatementsForRoutines("FUNCTION"));
+        phases.add(generateDropStatementsForRoutines("PROCEDURE"));
+        return phases;
+    }
+
+    /**
+     * Executes the statements on at most {@code parallelism} connections and waits for all of them to complete.
+     * Connections are opened as needed and added to {@code templates} so they can be reused by the next phases.
+     *
+     * @throws SQLException combining the failures of all statements that could not be executed.
+     */
+    private void executeConcurrently(List<String> statements, int parallelism, List<JdbcTemplate> templates,
+                                     ExecutorService executor) throws SQLException {
+        if (statements.isEmpty()) {
+            return;
         }
-        for (String statement : generateDropStatements("EXTERNAL", "EXTERNAL TABLE")) {
-            jdbcTemplate.execute(statement);
+
+        int connections = Math.min(parallelism, statements.size());
+        while (templates.size() < connections) {
+            Connection connection = database.openAdditionalConnection();
+            templates.add(new BigQueryJdbcTemplate(connection, database.getDatabaseType()));
         }
-        for (String statement : generateDropStatements("VIEW", "VIEW")) {
-            jdbcTemplate.execute(statement);
+        BlockingQueue<JdbcTemplate> available = new ArrayBlockingQueue<>(templates.size(), false, templates);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (String statement : statements) {
+            futures.add(executor.submit(() -> {
+                JdbcTemplate template = available.take();
+                try {
+                    template.execute(statement);
+                } finally {
+                    available.add(template);
+                }
+                return null;
+            }));
+        }
+
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while cleaning schema " + this, e);
+            }
         }
-        for (String statement : generateDropStatements("MATERIALIZED VIEW", "MATERIALIZED VIEW")) {
-            jdbcTemplate.execute(statement);
+        if (failures.isEmpty()) {
+            return;
         }
 
-        for (String statement : generateDropStatementsForRoutines("FUNCTION")) {
-            jdbcTemplate.execute(statement);
+        for (Throwable failure : failures) {
+            LOG.debug("Unable to drop object in schema " + this + ": " + failure.getMessage());
         }
-        for (String statement : generateDropStatementsForRoutines("PROCEDURE")) {
-            jdbcTemplate.execute(statement);
+        SQLException exception = new SQLException(failures.size() + " of " + statements.size()
+                + " drop statements failed while cleaning schema " + this + ". First failure: "
+                + failures.get(0).getMessage(), failures.get(0));
+        for (Throwable failure : failures.subList(1, failures.size())) {
+            exception.addSuppressed(failure);
         }
+        throw exception;
     }
 
     /**
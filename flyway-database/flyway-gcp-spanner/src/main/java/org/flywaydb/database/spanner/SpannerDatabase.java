@@ -99,6 +99,12 @@ public class SpannerDatabase extends Database<SpannerConnection> {
         return jdbcConnectionFactory.openConnection();
     }
 
+    @Override
+    protected String getChecksumSumExpression() {
+        // SUM already returns an INT64, and BIGINT isn't a valid type to cast to
+        return "SUM(COALESCE(" + quote("checksum") + ", 0))";
+    }
+
     @Override
     public String getBooleanTrue() {
         return "true";
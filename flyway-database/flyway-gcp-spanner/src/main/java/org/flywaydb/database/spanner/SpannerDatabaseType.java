@@ -23,12 +23,14 @@ import java.util.List;
 import lombok.CustomLog;
 import org.flywaydb.core.api.ResourceProvider;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.database.base.BaseDatabaseType;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 
 
@@ -94,4 +96,15 @@ public class SpannerDatabaseType extends BaseDatabaseType {
     public Parser createParser(Configuration configuration, ResourceProvider resourceProvider, ParsingContext parsingContext) {
         return new SpannerParser(configuration, parsingContext);
     }
+
+    @Override
+    public SqlScriptExecutorFactory createSqlScriptExecutorFactory(JdbcConnectionFactory jdbcConnectionFactory,
+                                                                   final CallbackExecutor callbackExecutor,
+                                                                   final StatementInterceptor statementInterceptor) {
+        final boolean supportsBatch = jdbcConnectionFactory.isSupportsBatch();
+        final SpannerDatabaseType thisRef = this;
+
+        return (connection, undo, batch, outputQueryResults) -> new SpannerSqlScriptExecutor(new SpannerJdbcTemplate(connection, thisRef),
+            callbackExecutor, undo, supportsBatch && batch, supportsBatch, outputQueryResults, statementInterceptor);
+    }
 }
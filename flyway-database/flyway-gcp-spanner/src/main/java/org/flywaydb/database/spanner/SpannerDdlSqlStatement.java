@@ -0,0 +1,32 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gcp-spanner
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.spanner;
+
+import org.flywaydb.core.internal.sqlscript.Delimiter;
+import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
+
+/**
+ * A Spanner DDL statement that can be grouped with adjacent DDL statements into a single schema change operation.
+ */
+public class SpannerDdlSqlStatement extends ParsedSqlStatement {
+    public SpannerDdlSqlStatement(int pos, int line, int col, String sql, Delimiter delimiter) {
+        super(pos, line, col, sql, delimiter, false, true);
+    }
+}
@@ -25,14 +25,22 @@ import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.ParserContext;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.parser.PeekingReader;
+import org.flywaydb.core.internal.parser.Recorder;
+import org.flywaydb.core.internal.parser.StatementType;
 import org.flywaydb.core.internal.parser.Token;
 import org.flywaydb.core.internal.parser.TokenType;
+import org.flywaydb.core.internal.sqlscript.Delimiter;
+import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.regex.Pattern;
 
 @CustomLog
 public class SpannerParser extends Parser {
+    private static final Pattern DDL_REGEX = Pattern.compile("^(CREATE|ALTER|DROP|RENAME|GRANT|REVOKE|ANALYZE)( .*)?");
+
+    private static final StatementType DDL = new StatementType();
 
     private boolean previousStatementStartedBatch = false;
 
@@ -49,6 +57,30 @@ public class SpannerParser extends Parser {
         return '\"';
     }
 
+    @Override
+    protected StatementType detectStatementType(String simplifiedStatement, ParserContext context, PeekingReader reader) {
+        if (DDL_REGEX.matcher(simplifiedStatement).matches()) {
+            return DDL;
+        }
+
+        return super.detectStatementType(simplifiedStatement, context, reader);
+    }
+
+    @Override
+    protected ParsedSqlStatement createStatement(PeekingReader reader, Recorder recorder,
+        int statementPos, int statementLine, int statementCol, int nonCommentPartPos, int nonCommentPartLine,
+        int nonCommentPartCol, StatementType statementType, boolean canExecuteInTransaction, Delimiter delimiter,
+        String sql, List<Token> tokens, boolean batchable) throws IOException {
+
+        // Statements inside an explicit START BATCH DDL ... RUN BATCH block are already grouped by the user
+        if (statementType == DDL && tokens.stream().noneMatch(t -> "RUN".equals(t.getText()))) {
+            return new SpannerDdlSqlStatement(statementPos, statementLine, statementCol, sql, delimiter);
+        }
+        return super.createStatement(reader, recorder, statementPos, statementLine, statementCol, nonCommentPartPos,
+            nonCommentPartLine, nonCommentPartCol, statementType, canExecuteInTransaction, delimiter, sql, tokens,
+            batchable);
+    }
+
     @Override
     protected Boolean detectCanExecuteInTransaction(String simplifiedStatement, List<Token> keywords) {
         LOG.debug("checking if [" + simplifiedStatement + "] can run in transaction");
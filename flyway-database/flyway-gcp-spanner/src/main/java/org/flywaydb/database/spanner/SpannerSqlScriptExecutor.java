@@ -0,0 +1,166 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gcp-spanner
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.spanner;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.callback.Event;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.exception.FlywayBlockStatementExecutionException;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.jdbc.StatementInterceptor;
+import org.flywaydb.core.internal.sqlscript.DefaultSqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+import org.flywaydb.core.internal.util.StopWatch;
+import org.flywaydb.core.internal.util.TimeFormat;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spanner executes every schema change as a long-running operation, so consecutive DDL statements of a script are
+ * submitted together as a single DDL batch instead of one operation per statement.
+ */
+@CustomLog
+public class SpannerSqlScriptExecutor extends DefaultSqlScriptExecutor {
+    /**
+     * The maximum number of DDL statements to include in a single schema change operation.
+     */
+    private static final int MAX_DDL_BATCH_SIZE = 100;
+
+    /**
+     * Whether consecutive DDL statements should be grouped into a single DDL batch.
+     */
+    private final boolean groupDdl;
+
+    public SpannerSqlScriptExecutor(JdbcTemplate jdbcTemplate, CallbackExecutor callbackExecutor, boolean undo, boolean batch, boolean groupDdl, boolean outputQueryResults, StatementInterceptor statementInterceptor) {
+        super(jdbcTemplate, callbackExecutor, undo, batch, outputQueryResults, statementInterceptor);
+        this.groupDdl = groupDdl;
+    }
+
+    @Override
+    public List<Results> execute(SqlScript sqlScript, Configuration config) {
+        final List<Results> results = new ArrayList<>();
+
+        List<SqlStatement> ddlStatements = new ArrayList<>();
+        List<SqlStatement> batchStatements = new ArrayList<>();
+
+        try (SqlStatementIterator sqlStatementIterator = sqlScript.getSqlStatements()) {
+            SqlStatement sqlStatement;
+            while ((sqlStatement = sqlStatementIterator.next()) != null) {
+                if (groupDdl && sqlStatement instanceof SpannerDdlSqlStatement) {
+                    results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+                    batchStatements = new ArrayList<>();
+
+                    logStatementExecution(sqlStatement);
+                    ddlStatements.add(sqlStatement);
+                    if (ddlStatements.size() >= MAX_DDL_BATCH_SIZE) {
+                        results.add(executeDdlBatch(sqlScript, ddlStatements, config));
+                        ddlStatements = new ArrayList<>();
+                    }
+                    continue;
+                }
+
+                // Spanner does not allow DDL and DML in the same batch, so the pending DDL is submitted first
+                results.add(executeDdlBatch(sqlScript, ddlStatements, config));
+                ddlStatements = new ArrayList<>();
+
+                if (batch && sqlStatement.isBatchable()) {
+                    logStatementExecution(sqlStatement);
+                    batchStatements.add(sqlStatement);
+                } else {
+                    results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+                    batchStatements = new ArrayList<>();
+                    results.add(executeStatement(jdbcTemplate, sqlScript, sqlStatement, config));
+                }
+            }
+        }
+
+        results.add(executeDdlBatch(sqlScript, ddlStatements, config));
+        results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+        return results;
+    }
+
+    private Results executeDdlBatch(SqlScript sqlScript, List<SqlStatement> ddlStatements, Configuration config) {
+        if (ddlStatements.isEmpty()) {
+            return null;
+        }
+        if (ddlStatements.size() == 1) {
+            return executeStatement(jdbcTemplate, sqlScript, ddlStatements.get(0), config);
+        }
+
+        List<SqlStatement> submittedStatements = new ArrayList<>();
+        List<String> sqlBatch = new ArrayList<>();
+        for (SqlStatement sqlStatement : ddlStatements) {
+            try {
+                handleEachMigrateOrUndoStatementCallback(Event.BEFORE_EACH_UNDO_STATEMENT, Event.BEFORE_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), null, null);
+            } catch (FlywayBlockStatementExecutionException e) {
+                LOG.debug("Statement on line " + sqlStatement.getLineNumber() + " + skipped due to " + e.getMessage());
+                continue;
+            }
+            submittedStatements.add(sqlStatement);
+            sqlBatch.add(sqlStatement.getSql());
+        }
+        if (submittedStatements.isEmpty()) {
+            return null;
+        }
+
+        int firstLine = submittedStatements.get(0).getLineNumber();
+        int lastLine = submittedStatements.get(submittedStatements.size() - 1).getLineNumber();
+        LOG.debug("Sending DDL batch of " + submittedStatements.size() + " statements (lines " + firstLine + "-" + lastLine + ") to database ...");
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        Results results = jdbcTemplate.executeBatch(sqlBatch, config);
+        stopWatch.stop();
+
+        LOG.info("Executed DDL batch of " + submittedStatements.size() + " statements (lines " + firstLine + "-" + lastLine + ")"
+                         + (results.getException() == null ? "" : " with errors")
+                         + " (execution time " + TimeFormat.format(stopWatch.getTotalTimeMillis()) + ")");
+
+        if (results.getException() != null) {
+            // The update counts of a failed DDL batch only cover the statements that were applied before the failure
+            int failedIndex = 0;
+            while (failedIndex < results.getResults().size()
+                    && failedIndex < submittedStatements.size()
+                    && results.getResults().get(failedIndex).updateCount() != Statement.EXECUTE_FAILED) {
+                SqlStatement sqlStatement = submittedStatements.get(failedIndex);
+                handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), results.getWarnings(), results.getErrors());
+                failedIndex++;
+            }
+            SqlStatement failedStatement = submittedStatements.get(Math.min(failedIndex, submittedStatements.size() - 1));
+            handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT_ERROR, Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, failedStatement.getSql() + failedStatement.getDelimiter(), results.getWarnings(), results.getErrors());
+            printWarnings(results);
+            handleException(results, sqlScript, failedStatement, config);
+            return results;
+        }
+
+        for (SqlStatement sqlStatement : submittedStatements) {
+            handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), results.getWarnings(), results.getErrors());
+        }
+        printWarnings(results);
+        handleResults(results);
+        return results;
+    }
+}
@@ -275,6 +275,11 @@ public class MySQLDatabase extends Database<MySQLConnection> {
         return false;
     }
 
+    @Override
+    protected String getChecksumSumExpression() {
+        return "SUM(CAST(COALESCE(" + quote("checksum") + ", 0) AS SIGNED))";
+    }
+
     @Override
     public String getBooleanTrue() {
         return "1";
@@ -73,6 +73,11 @@ public class SingleStoreDatabase extends Database<SingleStoreConnection> {
         return false;
     }
 
+    @Override
+    protected String getChecksumSumExpression() {
+        return "SUM(CAST(COALESCE(" + quote("checksum") + ", 0) AS SIGNED))";
+    }
+
     @Override
     public String getBooleanTrue() {
         return "1";
@@ -123,6 +123,7 @@ public class ExperimentalSqlite extends ExperimentalJdbc <String>  {
             try (final Statement statement = connection.createStatement()) {
                 statement.execute("BEGIN TRANSACTION;");
             }
+            startSchemaHistoryBatch();
         } catch (SQLException e) {
             throw new FlywayException(e);
         }
@@ -130,6 +131,7 @@ public class ExperimentalSqlite extends ExperimentalJdbc <String>  {
 
     @Override
     public void commitTransaction() {
+        executeSchemaHistoryBatch();
         try {
             try (final Statement statement = connection.createStatement()) {
                 statement.execute("COMMIT TRANSACTION;");
@@ -141,6 +143,7 @@ public class ExperimentalSqlite extends ExperimentalJdbc <String>  {
 
     @Override
     public void rollbackTransaction() {
+        clearSchemaHistoryBatch();
         try {
             try (final Statement statement = connection.createStatement()) {
                 statement.execute("ROLLBACK TRANSACTION;");
@@ -176,8 +176,7 @@ public class MigrateVerbExtension implements VerbExtension {
 
         callbackManager.handleEvent(Event.BEFORE_MIGRATE, database, configuration, context.getParsingContext());
 
-        try {
-            final ProgressLogger progress = configuration.createProgress("migrate");
+        try (final ProgressLogger progress = configuration.createProgress("migrate")) {
             int installedRank = context.getSchemaHistoryModel().calculateInstalledRank(CoreMigrationType.SQL);
             progress.pushSteps(allPendingMigrations.length);
             for (final MigrationExecutionGroup executionGroup : executionGroups) {
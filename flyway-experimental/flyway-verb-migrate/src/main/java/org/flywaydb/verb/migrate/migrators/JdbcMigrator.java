@@ -219,16 +219,17 @@ public class JdbcMigrator extends Migrator {
                 }
 
                 if (migrationInfo instanceof final LoadableMigrationInfo loadableMigrationInfo) {
-                    final Stream<SqlStatement> executionUnits = reader.read(configuration,
+                    // Closing the stream stops any statements still being parsed ahead after a failure
+                    try (final Stream<SqlStatement> executionUnits = reader.read(configuration,
                         experimentalDatabase,
                         parsingContext,
                         loadableMigrationInfo.getLoadableResource(),
-                        loadableMigrationInfo.getSqlScriptMetadata());
-
-                    executionUnits.forEach(x -> {
-                        sqlStatement.set(x);
-                        executor.execute(experimentalDatabase, x, configuration);
-                    });
+                        loadableMigrationInfo.getSqlScriptMetadata())) {
+                        executionUnits.forEach(x -> {
+                            sqlStatement.set(x);
+                            executor.execute(experimentalDatabase, x, configuration);
+                        });
+                    }
                     executor.finishExecution(experimentalDatabase, configuration);
                 }
 
@@ -71,7 +71,7 @@ public class NativeConnectorsCallbackHandler implements CallbackHandler {
 
         LOG.info("Callback executed: " + callback.getEvent().name() + " from " + callback.getPhysicalLocation());
 
-        try (final EventTelemetryModel telemetryModel = new EventTelemetryModel(callback.getEvent().getId(),
+        try (executionUnits; final EventTelemetryModel telemetryModel = new EventTelemetryModel(callback.getEvent().getId(),
             VerbUtils.getFlywayTelemetryManager(configuration))) {
             executionUnits.forEach(executionUnit -> {
 
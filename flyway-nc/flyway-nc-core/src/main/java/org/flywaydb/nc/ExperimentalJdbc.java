@@ -26,8 +26,11 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.experimental.AbstractExperimentalDatabase;
@@ -41,11 +44,25 @@ import org.flywaydb.core.internal.configuration.ConfigUtils;
 import org.flywaydb.core.internal.configuration.models.ResolvedEnvironment;
 import org.flywaydb.core.internal.jdbc.JdbcUtils;
 import org.flywaydb.core.internal.jdbc.Result;
+import org.flywaydb.core.internal.schemahistory.SchemaHistorySnapshots;
 import org.flywaydb.core.internal.util.AsciiTable;
 
 public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<T> {
     protected Connection connection;
 
+    /**
+     * Schema history statements prepared on this connection, by SQL. They are reused for every write to the schema
+     * history table, so the database parses each of them only once.
+     */
+    private final Map<String, PreparedStatement> schemaHistoryStatements = new HashMap<>();
+
+    /**
+     * The schema history statement holding inserts not executed yet, or {@code null} if there are none.
+     */
+    private PreparedStatement pendingSchemaHistoryInserts;
+    private boolean batchSchemaHistoryInserts;
+    private boolean cacheSchemaHistory;
+
     @Override
     public void initialize(final ResolvedEnvironment environment, final Configuration configuration) {
         final int connectRetries = environment.getConnectRetries() != null ? environment.getConnectRetries() : 0;
@@ -56,6 +73,7 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
         initializeConnectionType(environment, configuration);
         currentSchema = getDefaultSchema(configuration);
         metaData = getDatabaseMetaData();
+        cacheSchemaHistory = Boolean.TRUE.equals(configuration.getModernConfig().getFlyway().getCacheSchemaHistory());
     }
 
     @Override
@@ -134,6 +152,10 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
     @Override
     public void close() throws Exception {
         if (!isClosed()) {
+            for (final PreparedStatement statement : schemaHistoryStatements.values()) {
+                JdbcUtils.closeStatement(statement);
+            }
+            schemaHistoryStatements.clear();
             connection.close();
         }
     }
@@ -206,43 +228,104 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
 
     @Override
     public SchemaHistoryModel getSchemaHistoryModel(final String table) {
-        try (final Statement statement = connection.createStatement()) {
-            final String querySql = "SELECT " + doQuote("installed_rank")
-                + ", " + doQuote("version")
-                + ", " + doQuote("description")
-                + ", " + doQuote("type")
-                + ", " + doQuote("script")
-                + ", " + doQuote("checksum")
-                + ", " + doQuote("installed_on")
-                + ", " + doQuote("installed_by")
-                + ", " + doQuote("execution_time")
-                + ", " + doQuote("success")
-                + " FROM "
-                + getTableNameWithSchema(table)
-                + " WHERE "+ doQuote("installed_rank") + " >= 0"
-                + " ORDER BY " + doQuote("installed_rank");
-            final ResultSet resultSet = statement.executeQuery(querySql);
-            final ArrayList<SchemaHistoryItem> items = new ArrayList<>();
-            while (resultSet.next()) {
-                items.add(SchemaHistoryItem.builder()
-                    .installedRank(resultSet.getInt("installed_rank"))
-                    .version(resultSet.getString("version"))
-                    .description(resultSet.getString("description"))
-                    .type(resultSet.getString("type"))
-                    .script(resultSet.getString("script"))
-                    .checksum(resultSet.getInt("checksum"))
-                    .installedOn(resultSet.getTimestamp("installed_on").toLocalDateTime())
-                    .installedBy(resultSet.getString("installed_by"))
-                    .executionTime(resultSet.getInt("execution_time"))
-                    .success(resultSet.getBoolean("success"))
-                    .build());
+        flushSchemaHistoryInserts();
+        final String snapshotKey = getSnapshotKey(table);
+        final ArrayList<SchemaHistoryItem> items = cacheSchemaHistory
+            ? new ArrayList<>(getValidSnapshot(snapshotKey, table))
+            : new ArrayList<>();
+        final int maxInstalledRank = items.isEmpty() ? -1 : items.get(items.size() - 1).getInstalledRank();
+        final String querySql = "SELECT " + doQuote("installed_rank")
+            + ", " + doQuote("version")
+            + ", " + doQuote("description")
+            + ", " + doQuote("type")
+            + ", " + doQuote("script")
+            + ", " + doQuote("checksum")
+            + ", " + doQuote("installed_on")
+            + ", " + doQuote("installed_by")
+            + ", " + doQuote("execution_time")
+            + ", " + doQuote("success")
+            + " FROM "
+            + getTableNameWithSchema(table)
+            + " WHERE " + doQuote("installed_rank") + " > ?"
+            + " ORDER BY " + doQuote("installed_rank");
+        final int cachedRows = items.size();
+        try (final PreparedStatement statement = connection.prepareStatement(querySql)) {
+            statement.setInt(1, maxInstalledRank);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    items.add(SchemaHistoryItem.builder()
+                        .installedRank(resultSet.getInt("installed_rank"))
+                        .version(resultSet.getString("version"))
+                        .description(resultSet.getString("description"))
+                        .type(resultSet.getString("type"))
+                        .script(resultSet.getString("script"))
+                        .checksum(resultSet.getInt("checksum"))
+                        .installedOn(resultSet.getTimestamp("installed_on").toLocalDateTime())
+                        .installedBy(resultSet.getString("installed_by"))
+                        .executionTime(resultSet.getInt("execution_time"))
+                        .success(resultSet.getBoolean("success"))
+                        .build());
+                }
+            }
+            if (cacheSchemaHistory && items.size() != cachedRows) {
+                SchemaHistorySnapshots.put(snapshotKey, items);
             }
             return new SchemaHistoryModel(items);
         } catch (final SQLException e) {
+            SchemaHistorySnapshots.invalidate(snapshotKey);
             return new SchemaHistoryModel();
         }
     }
 
+    /**
+     * @return The rows of the snapshot of this table another command already read, or an empty list if there is none
+     * or if the number of rows, the sum of their checksums or the number of successful ones has changed since, e.g.
+     * after a clean, a checksum repair run from another process or a transaction rolled back after the snapshot was
+     * taken. Descriptions and types realigned by another process aren't detected.
+     */
+    private List<SchemaHistoryItem> getValidSnapshot(final String snapshotKey, final String table) {
+        final List<SchemaHistoryItem> snapshot = SchemaHistorySnapshots.get(snapshotKey);
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+        long checksumSum = 0;
+        long successCount = 0;
+        for (final SchemaHistoryItem item : snapshot) {
+            checksumSum += item.getChecksum() == null ? 0 : item.getChecksum();
+            successCount += item.isSuccess() ? 1 : 0;
+        }
+        final String checkSql = "SELECT COUNT(*), SUM(CAST(COALESCE(" + doQuote("checksum") + ", 0) AS BIGINT)),"
+            + " COUNT(CASE WHEN " + doQuote("success") + " = ? THEN 1 END)"
+            + " FROM " + getTableNameWithSchema(table)
+            + " WHERE " + doQuote("installed_rank") + " >= 0"
+            + " AND " + doQuote("installed_rank") + " <= ?";
+        try (final PreparedStatement statement = connection.prepareStatement(checkSql)) {
+            statement.setBoolean(1, true);
+            statement.setInt(2, snapshot.get(snapshot.size() - 1).getInstalledRank());
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()
+                    && resultSet.getLong(1) == snapshot.size()
+                    && resultSet.getLong(2) == checksumSum
+                    && resultSet.getLong(3) == successCount) {
+                    return snapshot;
+                }
+            }
+        } catch (final SQLException e) {
+            LOG.debug("Unable to validate the snapshot of schema history table " + table + ": " + e.getMessage());
+        }
+        SchemaHistorySnapshots.invalidate(snapshotKey);
+        return List.of();
+    }
+
+    private String getSnapshotKey(final String table) {
+        try {
+            return SchemaHistorySnapshots.keyOf(connection.getMetaData().getURL(), getTableNameWithSchema(table),
+                SchemaHistoryItem.class);
+        } catch (final SQLException e) {
+            return null;
+        }
+    }
+
     @Override
     public void createSchemaHistoryTable(final Configuration configuration) {
         try (final Statement statement = connection.createStatement()) {
@@ -261,6 +344,7 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
                 + doQuote("success") + " BOOLEAN NOT NULL\n"
                 + " );\n";
             statement.executeUpdate(createSql);
+            SchemaHistorySnapshots.invalidate(getSnapshotKey(configuration.getTable()));
         } catch (SQLException e) {
             throw new FlywayException(e);
         }
@@ -268,46 +352,53 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
 
     @Override
     public void appendSchemaHistoryItem(final SchemaHistoryItem item, final String tableName) {
-        try (final Statement statement = connection.createStatement()) {
-            final StringBuilder insertSql = new StringBuilder().append("INSERT INTO ")
+        try {
+            final String sql = new StringBuilder().append("INSERT INTO ")
                 .append(getTableNameWithSchema(tableName))
                 .append(" (")
-                .append(doQuote("installed_rank")  + ", ")
-                .append(item.getVersion() == null ? "" : doQuote("version") + ", ")
-                .append(doQuote("description")  + ", ")
-                .append(doQuote("type")  + ", ")
-                .append(doQuote("script")  + ", ")
-                .append(doQuote("checksum")  + ", ")
-                .append(doQuote("installed_by")  + ", ")
-                .append(doQuote("execution_time")  + ", ")
+                .append(doQuote("installed_rank")).append(", ")
+                .append(doQuote("version")).append(", ")
+                .append(doQuote("description")).append(", ")
+                .append(doQuote("type")).append(", ")
+                .append(doQuote("script")).append(", ")
+                .append(doQuote("checksum")).append(", ")
+                .append(doQuote("installed_by")).append(", ")
+                .append(doQuote("execution_time")).append(", ")
                 .append(doQuote("success"))
-                .append(")");
+                .append(") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")
+                .toString();
+            final PreparedStatement statement = getSchemaHistoryStatement(sql);
+            statement.setInt(1, item.getInstalledRank());
+            if (item.getVersion() == null) {
+                statement.setNull(2, Types.VARCHAR);
+            } else {
+                statement.setString(2, item.getVersion());
+            }
+            statement.setString(3, item.getDescription());
+            statement.setString(4, item.getType());
+            statement.setString(5, item.getScript());
+            if (item.getChecksum() == null) {
+                statement.setNull(6, Types.INTEGER);
+            } else {
+                statement.setInt(6, item.getChecksum());
+            }
+            statement.setString(7, item.getInstalledBy() == null ? "" : item.getInstalledBy());
+            statement.setInt(8, item.getExecutionTime());
+            if (supportsBoolean()) {
+                statement.setBoolean(9, item.isSuccess());
+            } else {
+                statement.setInt(9, item.isSuccess() ? 1 : 0);
+            }
 
-            insertSql.append(" VALUES (")
-                .append(item.getInstalledRank())
-                .append(", ");
-            if (item.getVersion() != null) {
-                insertSql.append("'").append(item.getVersion()).append("', ");
+            if (!batchSchemaHistoryInserts) {
+                statement.executeUpdate();
+                return;
             }
-            insertSql.append("'")
-                .append(item.getDescription())
-                .append("', ")
-                .append("'")
-                .append(item.getType())
-                .append("', ")
-                .append("'")
-                .append(item.getScript())
-                .append("', ")
-                .append(item.getChecksum())
-                .append(", ")
-                .append("'")
-                .append(item.getInstalledBy() == null ? "" : item.getInstalledBy())
-                .append("', ")
-                .append(item.getExecutionTime())
-                .append(", ")
-                .append(supportsBoolean() ? item.isSuccess() : item.isSuccess() ? "1" : "0")
-                .append(")");
-            statement.execute(insertSql.toString());
+            if (pendingSchemaHistoryInserts != statement) {
+                flushSchemaHistoryInserts();
+            }
+            statement.addBatch();
+            pendingSchemaHistoryInserts = statement;
         } catch (SQLException e) {
             throw new FlywayException(e);
         }
@@ -315,10 +406,12 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
 
     @Override
     public void removeFailedSchemaHistoryItems(final String tableName) {
+        flushSchemaHistoryInserts();
         try {
             try (final Statement statement = connection.createStatement()) {
                 statement.execute("DELETE FROM " + getTableNameWithSchema(tableName) + " WHERE " + doQuote("success") + " = 0");
             }
+            SchemaHistorySnapshots.invalidate(getSnapshotKey(tableName));
         } catch (SQLException e) {
             throw new FlywayException(e);
         }
@@ -326,6 +419,7 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
 
     @Override
     public void updateSchemaHistoryItem(final SchemaHistoryItem item, final String tableName) {
+        flushSchemaHistoryInserts();
         try {
             final String sql = new StringBuilder().append("UPDATE ")
                 .append(getTableNameWithSchema(tableName))
@@ -340,18 +434,76 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase<
                 .append(doQuote("installed_rank"))
                 .append("=?")
                 .toString();
-            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
-                statement.setString(1, item.getDescription());
-                statement.setString(2, item.getType());
-                statement.setInt(3, item.getChecksum());
-                statement.setInt(4, item.getInstalledRank());
-                statement.execute();
-            }
+            final PreparedStatement statement = getSchemaHistoryStatement(sql);
+            statement.setString(1, item.getDescription());
+            statement.setString(2, item.getType());
+            statement.setInt(3, item.getChecksum());
+            statement.setInt(4, item.getInstalledRank());
+            statement.executeUpdate();
+            SchemaHistorySnapshots.invalidate(getSnapshotKey(tableName));
+        } catch (SQLException e) {
+            throw new FlywayException(e);
+        }
+    }
+
+    /**
+     * Defers inserts into the schema history table until {@link #executeSchemaHistoryBatch()} is called, so that all
+     * the rows written by a transaction are sent to the database in a single batch. To be called when a transaction
+     * is started.
+     */
+    protected void startSchemaHistoryBatch() {
+        batchSchemaHistoryInserts = true;
+    }
+
+    /**
+     * Executes the schema history inserts deferred since {@link #startSchemaHistoryBatch()} and stops deferring them.
+     * To be called before a transaction is committed.
+     */
+    protected void executeSchemaHistoryBatch() {
+        batchSchemaHistoryInserts = false;
+        flushSchemaHistoryInserts();
+    }
+
+    private void flushSchemaHistoryInserts() {
+        if (pendingSchemaHistoryInserts == null) {
+            return;
+        }
+        final PreparedStatement statement = pendingSchemaHistoryInserts;
+        pendingSchemaHistoryInserts = null;
+        try {
+            statement.executeBatch();
         } catch (SQLException e) {
             throw new FlywayException(e);
         }
     }
 
+    /**
+     * Discards the schema history inserts deferred since {@link #startSchemaHistoryBatch()} and stops deferring them.
+     * To be called when a transaction is rolled back.
+     */
+    protected void clearSchemaHistoryBatch() {
+        batchSchemaHistoryInserts = false;
+        if (pendingSchemaHistoryInserts == null) {
+            return;
+        }
+        final PreparedStatement statement = pendingSchemaHistoryInserts;
+        pendingSchemaHistoryInserts = null;
+        try {
+            statement.clearBatch();
+        } catch (SQLException e) {
+            throw new FlywayException(e);
+        }
+    }
+
+    private PreparedStatement getSchemaHistoryStatement(final String sql) throws SQLException {
+        PreparedStatement statement = schemaHistoryStatements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            schemaHistoryStatements.put(sql, statement);
+        }
+        return statement;
+    }
+
     @Override
     protected final String getDefaultSchema(final Configuration configuration) {
         if (!supportsSchema()) {
@@ -59,9 +59,10 @@ public class ExperimentalMigrationScannerManager {
             return Collections.emptyList();
         }
 
+        final ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
         final List<LoadableResourceMetadata> resources = Arrays.stream(configuration.getLocations())
                                                                .flatMap(location -> scan(location,configuration, parsingContext).stream())
-                                                               .map(resource -> getLoadableResourceMetadata(resource, configuration, parsingContext))
+                                                               .map(resource -> getLoadableResourceMetadata(resource, resourceNameParser, configuration, parsingContext))
                                                                .toList();
 
         final Collection<LoadableResourceMetadata> resourceSet = new HashSet<>();
@@ -93,10 +94,10 @@ public class ExperimentalMigrationScannerManager {
     }
 
     private static LoadableResourceMetadata getLoadableResourceMetadata(final Pair<LoadableResource, SqlScriptMetadata> resource,
+        final ResourceNameParser resourceNameParser,
         final Configuration configuration,
         final ParsingContext parsingContext) {
         
-        final ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
         final ResourceName resourceName = resourceNameParser.parse(resource.getLeft().getFilename());
 
         SqlScriptMetadata sqlScriptMetadata = resource.getRight();
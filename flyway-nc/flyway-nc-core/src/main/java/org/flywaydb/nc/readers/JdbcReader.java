@@ -19,6 +19,8 @@
  */
 package org.flywaydb.nc.readers;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.flywaydb.core.api.configuration.Configuration;
@@ -31,6 +33,10 @@ import org.flywaydb.core.internal.sqlscript.SqlScriptMetadata;
 import org.flywaydb.core.internal.sqlscript.SqlStatement;
 
 public class JdbcReader implements Reader<SqlStatement> {
+    /**
+     * The maximum number of statements parsed ahead of the one being executed.
+     */
+    private static final int PARSE_AHEAD_CAPACITY = 100;
 
     public Stream<SqlStatement> read(final Configuration configuration,
         final ExperimentalDatabase database,
@@ -38,6 +44,14 @@ public class JdbcReader implements Reader<SqlStatement> {
         final LoadableResource loadableResource,
         final SqlScriptMetadata metadata) {
         final Parser parser = (Parser) database.getParser().apply(configuration, parsingContext);
+
+        if (Boolean.TRUE.equals(configuration.getModernConfig().getFlyway().getParseAhead())) {
+            final ParseAheadIterator<SqlStatement> iterator = new ParseAheadIterator<>(parser.parse(loadableResource,
+                metadata), PARSE_AHEAD_CAPACITY, loadableResource.getFilename());
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+        }
+
         final Iterable<SqlStatement> iterable = () -> parser.parse(loadableResource, metadata);
         return StreamSupport.stream(iterable.spliterator(), false);
     }
@@ -0,0 +1,140 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-nc-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.nc.readers;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.internal.util.CloseableIterator;
+
+/**
+ * Iterates over the elements of another iterator that is advanced ahead of time on a separate thread, so that the
+ * work of producing the next elements (parsing the next statements) overlaps with the work the caller does on the
+ * current one (executing it). Elements are handed over in their original order through a bounded queue. A failure
+ * while producing an element is rethrown by {@link #next()} at the position it occurred, after all elements produced
+ * before it.
+ */
+@CustomLog
+class ParseAheadIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final CloseableIterator<T> source;
+    private final BlockingQueue<Object> queue;
+    private final Thread producer;
+    private volatile boolean closed;
+    private Object nextItem;
+
+    ParseAheadIterator(final CloseableIterator<T> source, final int capacity, final String name) {
+        this.source = source;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.producer = new Thread(this::produce, "flyway-parse-ahead-" + name);
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    private void produce() {
+        try {
+            while (source.hasNext()) {
+                if (!offer(source.next())) {
+                    return;
+                }
+            }
+            offer(End.INSTANCE);
+        } catch (final RuntimeException | Error e) {
+            offer(new Failure(e));
+        } finally {
+            try {
+                source.close();
+            } catch (final Exception e) {
+                LOG.debug("Unable to close parsed script: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the iterator was closed while waiting for space in the queue.
+     */
+    private boolean offer(final Object item) {
+        try {
+            while (!closed) {
+                if (queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextItem == null) {
+            try {
+                nextItem = queue.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlywayException("Interrupted while waiting for the next statement to be parsed", e);
+            }
+        }
+        if (nextItem instanceof Failure failure) {
+            failure.rethrow();
+        }
+        return nextItem != End.INSTANCE;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final T item = (T) nextItem;
+        nextItem = null;
+        return item;
+    }
+
+    /**
+     * Stops parsing ahead, e.g. when a statement failed to execute and the remaining statements are not needed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        producer.interrupt();
+        queue.clear();
+    }
+
+    private enum End {
+        INSTANCE
+    }
+
+    private record Failure(Throwable cause) {
+        void rethrow() {
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw (Error) cause;
+        }
+    }
+}
@@ -84,7 +84,7 @@ public abstract class BaseSqlMigrationScanner implements ExperimentalMigrationSc
             dir,
             configuration.isFailOnMissingLocations(),
             configuration.isValidateMigrationNaming(),
-            new ResourceNameParser(configuration),
+            ResourceNameParser.forConfiguration(configuration),
             location.isFileSystem(),
             configuration.getSqlMigrationSuffixes());
         return resourceNames.stream()
@@ -126,16 +126,16 @@ public class ClasspathSqlMigrationScanner extends BaseSqlMigrationScanner {
             .map(resourceName -> processJarResource(location, locationUrl, configuration, resourceName, parsingContext))
             .toList();
 
+        final ResourceNameParser resourceNameParser = ResourceNameParser.forConfiguration(configuration);
         final List<Pair<String, ResourceName>> resources = fileList.stream()
-            .map(x -> Pair.of(x.getLeft().getFilename(),
-                new ResourceNameParser(configuration).parse(x.getLeft().getFilename())))
+            .map(x -> Pair.of(x.getLeft().getFilename(), resourceNameParser.parse(x.getLeft().getFilename())))
             .toList();
         validateMigrationNaming(resources,
             configuration.isValidateMigrationNaming(),
             configuration.getSqlMigrationSuffixes());
 
         return fileList.stream().filter(x -> {
-            final ResourceName name = new ResourceNameParser(configuration).parse(x.getLeft().getFilename());
+            final ResourceName name = resourceNameParser.parse(x.getLeft().getFilename());
             return name.isValid() && !"".equals(name.getSuffix());
         }).collect(Collectors.toSet());
     }
@@ -21,11 +21,22 @@ package org.flywaydb.reports.api.extensibility;
 
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.output.HtmlResult;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import org.flywaydb.core.extensibility.Plugin;
 
 public interface HtmlRenderer<T extends HtmlResult> extends Plugin {
     String render(T result, Configuration config);
+
+    /**
+     * Renders the result directly to the report being written. Renderers of potentially large results should
+     * override this to write their output incrementally instead of building it in memory first.
+     */
+    default void render(T result, Configuration config, Writer writer) throws IOException {
+        writer.write(render(result, config));
+    }
+
     String tabTitle(T result, Configuration config);
     Class<T> getType();
     default List<HtmlReportSummary> getHtmlSummary(T result, final Configuration config) {
@@ -21,6 +21,7 @@ package org.flywaydb.reports.html;
 
 import lombok.CustomLog;
 import lombok.experimental.ExtensionMethod;
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.reports.output.DashboardResult;
 import org.flywaydb.reports.output.HoldingResult;
@@ -34,8 +35,11 @@ import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -43,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.flywaydb.core.internal.util.ClassUtils.getInstallDir;
@@ -58,13 +63,32 @@ public class HtmlReportGenerator {
             new HoldingTabMetadata("dryrun", "TEAMS", "ENTERPRISE"),
             new HoldingTabMetadata("code", "OSS")
                                                                                       );
+    private static final List<String> ICONS = Arrays.asList(
+            "AddFilled", "Calendar", "CheckFilled", "ClockOutlined", "Database", "DeleteFilled", "Document", "EditFilled",
+            "ErrorFilled", "FeedbackOutlined", "flyway-upgrade-icon", "InfoOutlined", "PipelineFilled", "ScriptOutlined",
+            "upgrade", "WarningFilled");
     public static final String INSTALL_DIR = getInstallDir(HtmlReportGenerator.class);
+    private static final Map<String, String> ASSET_CACHE = new ConcurrentHashMap<>();
 
     public static String generateHtml(CompositeResult<HtmlResult> result, Configuration config) {
+        StringWriter content = new StringWriter();
+        try {
+            generateHtml(result, config, content);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to generate HTML report", e);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Generates the report and streams it to the writer, one tab at a time.
+     */
+    public static void generateHtml(CompositeResult<HtmlResult> result, Configuration config, Writer content) throws IOException {
         Map<LocalDateTime, List<HtmlResult>> groupedResults = result.individualResults.stream().collect(Collectors.groupingBy(HtmlResult::getTimestamp));
         List<LocalDateTime> timestamps = new ArrayList<>(groupedResults.keySet());
+        String currentTier = LicenseGuard.getTierAsString(config);
 
-        StringBuilder content = new StringBuilder(getBeginning(timestamps));
+        writeBeginning(timestamps, content);
         for (LocalDateTime timestamp : timestamps) {
             List<HtmlResult> groupedResult = groupedResults.get(timestamp);
 
@@ -75,21 +99,19 @@ public class HtmlReportGenerator {
 
             groupedResult.add(0, dashboardResult);
 
-            String currentTier = LicenseGuard.getTierAsString(config);
-
             for (HoldingTabMetadata holdingTabMetadata : HOLDING_TAB_METADATA) {
                 String holdingTab = holdingTabMetadata.getName();
                 if (groupedResult.stream().noneMatch(t -> holdingTab.equals(t.getOperation()) && !t.isLicenseFailed())) {
-                    String htmlFile = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/holdingTabs/" + holdingTab + ".html");
+                    String htmlFile = getAsset("assets/report/holdingTabs/" + holdingTab + ".html");
                     HoldingResult holdingResult = new HoldingResult();
                     if (holdingTabMetadata.getSupportedEditions().get(0) != "OSS" && !holdingTabMetadata.getSupportedEditions().contains(currentTier)) {
-                        htmlFile = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/upgradeTabs/" + holdingTab + ".html");
+                        htmlFile = getAsset("assets/report/upgradeTabs/" + holdingTab + ".html");
                         if (groupedResult.stream().anyMatch(t -> t.getOperation().equals(holdingTab))) {
                             HtmlResult htmlResult = groupedResult.stream().filter(t -> t.getOperation().equals(holdingTab)).findFirst().get();
                             holdingResult.setException(htmlResult.exceptionObject);
                         }
                     }
-                    String tabTitle = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/holdingTabs/" + holdingTab + ".txt");
+                    String tabTitle = getAsset("assets/report/holdingTabs/" + holdingTab + ".txt");
                     holdingResult.setTimestamp(timestamp);
                     holdingResult.setTabTitle(tabTitle.trim());
                     holdingResult.setBodyText(htmlFile);
@@ -107,37 +129,31 @@ public class HtmlReportGenerator {
             }
 
             String formattedTimestamp = timestamp.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-            content.append(getPage(formattedTimestamp, htmlResults, config));
+            writePage(formattedTimestamp, htmlResults, config, content);
         }
 
-        return content.append(getEnd()).toString();
+        content.write(getEnd());
+    }
+
+    /**
+     * Static report assets are read once per process, as they only change when Flyway itself is updated.
+     */
+    private static String getAsset(String path) {
+        return ASSET_CACHE.computeIfAbsent(path, p -> FileUtils.readAsStringFallbackToResource(INSTALL_DIR, p));
     }
 
-    private static String getBeginning(List<LocalDateTime> timestamps) {
-        return "<!doctype html>\n" +
+    private static void writeBeginning(List<LocalDateTime> timestamps, Writer content) throws IOException {
+        content.write("<!doctype html>\n" +
                 "<html lang=\"en\">\n" +
                 "<head><meta charset=\"utf-8\">\n" +
-                "<style>\n" +
-                getCodeStyle() +
-                "</style>\n</head>\n" +
-                "<body>\n" +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/AddFilled.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/Calendar.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/CheckFilled.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/ClockOutlined.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/Database.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/DeleteFilled.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/Document.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/EditFilled.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/ErrorFilled.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/FeedbackOutlined.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/flyway-upgrade-icon.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/InfoOutlined.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/PipelineFilled.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/ScriptOutlined.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/upgrade.svg") +
-                FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/icons/WarningFilled.svg") +
-                " <div class=\"container\">" +
+                "<style>\n");
+        content.write(getCodeStyle());
+        content.write("</style>\n</head>\n" +
+                "<body>\n");
+        for (String icon : ICONS) {
+            content.write(getAsset("assets/report/icons/" + icon + ".svg"));
+        }
+        content.write(" <div class=\"container\">" +
                 "  <div class=\"header\">" +
                 "    <div class=\"flywayLogo headerElement\"></div>\n" +
                 "    <div class=\"headerElement leftPaddedElement\">Flyway Reports</div>" +
@@ -145,8 +161,8 @@ public class HtmlReportGenerator {
                 "      <div class=\"redgateText\"><a class='unstyledLink' href='https://www.redgate.com'>redgate</a></div>" +
                 //"    </div>" +
                 "  </div>\n" +
-                "  <div class=\"content\">\n" +
-                getDropdown(timestamps);
+                "  <div class=\"content\">\n");
+        content.write(getDropdown(timestamps));
     }
 
     private static String getDropdown(List<LocalDateTime> timestamps) {
@@ -186,19 +202,17 @@ public class HtmlReportGenerator {
         return result;
     }
 
-    private static String getPage(String timestamp, List<HtmlResult> results, Configuration config) {
-        StringBuilder content = new StringBuilder();
-
-        content.append("<div class=\"page ").append(timestamp).append("\">\n");
-        content.append(getTabs(results, config));
+    private static void writePage(String timestamp, List<HtmlResult> results, Configuration config, Writer content) throws IOException {
+        content.write("<div class=\"page " + timestamp + "\">\n");
+        content.write(getTabs(results, config));
 
         int tabCount = 0;
         for (HtmlResult result : results) {
-            content.append(renderTab(result, config, tabCount));
+            renderTab(result, config, tabCount, content);
             tabCount++;
         }
 
-        return content.append("</div>\n").toString();
+        content.write("</div>\n");
     }
 
     private static String getTabs(List<HtmlResult> result, Configuration config) {
@@ -224,6 +238,14 @@ public class HtmlReportGenerator {
         return getTabOpening(result, config, tabCount) + renderTabSummary(result, config) + renderer.render(result, config) + getTabEnding(result);
     }
 
+    public static void renderTab(HtmlResult result, Configuration config, int tabCount, Writer content) throws IOException {
+        HtmlRenderer renderer = getRenderer(result, config);
+        content.write(getTabOpening(result, config, tabCount));
+        content.write(renderTabSummary(result, config));
+        renderer.render(result, config, content);
+        content.write(getTabEnding(result));
+    }
+
     public static String renderTabSummary(HtmlResult result, Configuration config) {
         HtmlRenderer renderer = getRenderer(result, config);
         List<HtmlReportSummary> summaries = renderer.getHtmlSummary(result, config);
@@ -261,7 +283,7 @@ public class HtmlReportGenerator {
 
     private static String getEnd() {
         String html = "</div>\n";
-        html += FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/footer.html");
+        html += getAsset("assets/report/footer.html");
         html += "</div></body>\n" + getScript() + "</html>\n";
 
         return html;
@@ -287,7 +309,7 @@ public class HtmlReportGenerator {
     }
 
     private static String getScript() {
-        return FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/reportScript.html");
+        return getAsset("assets/report/reportScript.html");
     }
 
     private static String getBase64EncodedLogo() {
@@ -300,6 +322,6 @@ public class HtmlReportGenerator {
     }
 
     private static String getCodeStyle() {
-        return FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/report.css");
+        return getAsset("assets/report/report.css");
     }
 }
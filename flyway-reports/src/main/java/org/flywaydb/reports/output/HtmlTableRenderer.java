@@ -21,6 +21,9 @@ package org.flywaydb.reports.output;
 
 import org.flywaydb.core.api.FlywayException;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,9 +37,7 @@ public class HtmlTableRenderer {
     }
 
     public void addRow(String... row) {
-        if (row.length != fields.size()) {
-            throw new FlywayException("Row must have the same number of fields as the table headings");
-        }
+        checkRow(row);
 
         if (rows == null) {
             rows = new ArrayList<>();
@@ -46,34 +47,66 @@ public class HtmlTableRenderer {
     }
 
     public String render() {
-        StringBuilder html = new StringBuilder();
-        html.append("  <table class=\"tabulardata\">\n");
-        html.append("    <thead>\n");
-        html.append("       <tr>\n");
-        for (String field : fields) {
-            html.append("       <th>").append(field).append("</th>\n");
+        StringWriter html = new StringWriter();
+        try {
+            writeHeader(html);
+            if (rows == null) {
+                writeNoData(html);
+            } else {
+                for (List<String> row : rows) {
+                    writeRow(html, row.toArray(new String[0]));
+                }
+            }
+            writeFooter(html);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to render HTML table", e);
         }
-        html.append("       </tr>\n");
-        html.append("       </thead>\n");
-        html.append("    <tbody>\n");
 
-        if (rows == null) {
-            html.append("<tr><td colspan=\"").append(fields.size()).append("\">No data</td></tr>\n");
-        } else {
-            for (List<String> row : rows) {
-                html.append("    <tr>\n");
+        return html.toString();
+    }
 
-                for (String field : row) {
-                    html.append("      <td>").append(field).append("</td>\n");
-                }
+    /**
+     * Writes the opening of the table, including its headings. Together with {@link #writeRow}, {@link #writeNoData}
+     * and {@link #writeFooter} this streams a table without holding its rows in memory.
+     */
+    public void writeHeader(Writer html) throws IOException {
+        html.write("  <table class=\"tabulardata\">\n");
+        html.write("    <thead>\n");
+        html.write("       <tr>\n");
+        for (String field : fields) {
+            html.write("       <th>");
+            html.write(String.valueOf(field));
+            html.write("</th>\n");
+        }
+        html.write("       </tr>\n");
+        html.write("       </thead>\n");
+        html.write("    <tbody>\n");
+    }
 
-                html.append("    </tr>\n");
-            }
+    public void writeRow(Writer html, String... row) throws IOException {
+        checkRow(row);
+
+        html.write("    <tr>\n");
+        for (String field : row) {
+            html.write("      <td>");
+            html.write(String.valueOf(field));
+            html.write("</td>\n");
         }
+        html.write("    </tr>\n");
+    }
 
-        html.append("    </tbody>\n");
-        html.append("  </table>\n");
+    public void writeNoData(Writer html) throws IOException {
+        html.write("<tr><td colspan=\"" + fields.size() + "\">No data</td></tr>\n");
+    }
 
-        return html.toString();
+    public void writeFooter(Writer html) throws IOException {
+        html.write("    </tbody>\n");
+        html.write("  </table>\n");
+    }
+
+    private void checkRow(String... row) {
+        if (row.length != fields.size()) {
+            throw new FlywayException("Row must have the same number of fields as the table headings");
+        }
     }
 }
@@ -19,34 +19,52 @@
  */
 package org.flywaydb.reports.output;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.output.InfoOutput;
 import org.flywaydb.core.api.output.InfoResult;
 import org.flywaydb.reports.api.extensibility.HtmlRenderer;
 import org.flywaydb.reports.api.extensibility.HtmlReportSummary;
 import org.flywaydb.core.internal.util.DateUtils;
 import org.flywaydb.core.internal.util.StringUtils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 public class InfoHtmlRenderer implements HtmlRenderer<InfoResult> {
     @Override
     public String render(InfoResult result, Configuration config) {
-        return getBody(result);
+        StringWriter html = new StringWriter();
+        try {
+            render(result, config, html);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to render info report", e);
+        }
+        return html.toString();
     }
 
-    private String getBody(InfoResult result) {
+    @Override
+    public void render(InfoResult result, Configuration config, Writer html) throws IOException {
         HtmlTableRenderer tableRenderer = new HtmlTableRenderer();
         tableRenderer.addHeadings("Version", "Category", "Description", "Type", "Installed On", "State", "Undoable");
 
-        result.migrations.forEach(migration -> tableRenderer.addRow(migration.version,
-                                                                    migration.category,
-                                                                    migration.description,
-                                                                    migration.type,
-                                                                    StringUtils.hasText(migration.installedOnUTC) ? DateUtils.formatStringAsIsoDateString(migration.installedOnUTC) : "--",
-                                                                    migration.state, migration.undoable));
-
-        return tableRenderer.render();
+        tableRenderer.writeHeader(html);
+        if (result.migrations.isEmpty()) {
+            tableRenderer.writeNoData(html);
+        }
+        for (InfoOutput migration : result.migrations) {
+            tableRenderer.writeRow(html,
+                                   migration.version,
+                                   migration.category,
+                                   migration.description,
+                                   migration.type,
+                                   StringUtils.hasText(migration.installedOnUTC) ? DateUtils.formatStringAsIsoDateString(migration.installedOnUTC) : "--",
+                                   migration.state, migration.undoable);
+        }
+        tableRenderer.writeFooter(html);
     }
 
     @Override
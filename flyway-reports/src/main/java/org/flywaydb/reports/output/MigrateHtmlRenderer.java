@@ -19,13 +19,18 @@
  */
 package org.flywaydb.reports.output;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.output.MigrateOutput;
 import org.flywaydb.core.api.output.MigrateResult;
 import org.flywaydb.reports.api.extensibility.HtmlRenderer;
 import org.flywaydb.reports.api.extensibility.HtmlReportSummary;
 import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.StringUtils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,39 +39,46 @@ import static org.flywaydb.core.internal.util.TimeFormat.*;
 public class MigrateHtmlRenderer implements HtmlRenderer<MigrateResult> {
     @Override
     public String render(MigrateResult result, Configuration config) {
-
-        return getBody(result);
+        StringWriter html = new StringWriter();
+        try {
+            render(result, config, html);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to render migration report", e);
+        }
+        return html.toString();
     }
 
-    private String getBody(MigrateResult result) {
-        StringBuilder html = new StringBuilder("<div>");
+    @Override
+    public void render(MigrateResult result, Configuration config, Writer html) throws IOException {
+        html.write("<div>");
 
         if (result.warnings != null && result.warnings.size() > 0) {
-            html.append("  <div><h3>Warnings</h3>\n");
+            html.write("  <div><h3>Warnings</h3>\n");
             for (String warning : result.warnings) {
-                html.append("    <pre>").append(warning).append("</pre>\n");
+                html.write("    <pre>" + warning + "</pre>\n");
             }
-            html.append("  </div>\n");
+            html.write("  </div>\n");
         }
 
         if (result.migrations != null && result.migrations.size() > 0) {
             HtmlTableRenderer tableRenderer = new HtmlTableRenderer();
             tableRenderer.addHeadings("Version", "Description", "Category", "Type", "Filepath", "ExecutionTime");
-            result.migrations.forEach(output -> tableRenderer.addRow(output.version,
-                                                                     output.description,
-                                                                     output.category,
-                                                                     output.type,
-                                                                     FileUtils.getFilename(output.filepath),
-                                                                     format(output.executionTime)));
-
-            html.append(tableRenderer.render());
+            tableRenderer.writeHeader(html);
+            for (MigrateOutput output : result.migrations) {
+                tableRenderer.writeRow(html,
+                                       output.version,
+                                       output.description,
+                                       output.category,
+                                       output.type,
+                                       FileUtils.getFilename(output.filepath),
+                                       format(output.executionTime));
+            }
+            tableRenderer.writeFooter(html);
         } else {
-            html.append("  <h3>No migrations found</h3>\n");
+            html.write("  <h3>No migrations found</h3>\n");
         }
 
-        html.append("</div>\n");
-
-        return html.toString();
+        html.write("</div>\n");
     }
 
     @Override
@@ -25,8 +25,15 @@ import org.flywaydb.core.api.output.HtmlResult;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.output.CompositeResult;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.format.DateTimeFormatter;
 
 import static org.flywaydb.reports.html.HtmlReportGenerator.generateHtml;
@@ -34,19 +41,37 @@ import static org.flywaydb.core.internal.util.FileUtils.createDirIfNotExists;
 
 public class HtmlUtils {
     public static String toHtmlFile(String filename, CompositeResult<HtmlResult> results, Configuration config) {
-        String fileContents = generateHtml(results, config);
-
         File file = new File(filename);
 
         createDirIfNotExists(file);
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(fileContents);
+        // The report is generated into a temporary file next to the target and only moved into place once complete,
+        // so a failed or interrupted run never leaves a truncated report behind. The file is created like the report
+        // used to be rather than with Files.createTempFile, so it gets the permissions of the umask instead of 0600
+        Path tmpFile = null;
+        try {
+            Path target = file.getAbsoluteFile().toPath();
+            tmpFile = target.resolveSibling(target.getFileName() + ".tmp");
+            try (Writer fileWriter = new BufferedWriter(new FileWriter(tmpFile.toFile()))) {
+                generateHtml(results, config, fileWriter);
+            }
+            try {
+                Files.move(tmpFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmpFile = null;
             return file.getCanonicalPath();
         } catch (Exception e) {
             throw new FlywayException("Unable to write HTML to file: " + e.getMessage());
+        } finally {
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException ignored) {
+                }
+            }
         }
-
     }
 
     public static String getFormattedTimestamp(HtmlResult result) {
@@ -26,7 +26,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
@@ -96,11 +98,28 @@ public class OperationsReportUtils {
             tmpJsonReportFilename = ConfigUtils.getFilenameWithWorkingDirectory(tmpJsonReportFilename, configuration);
             tmpHtmlReportFilename = ConfigUtils.getFilenameWithWorkingDirectory(tmpHtmlReportFilename, configuration);
 
+            final FlywayModel flywayModel = configuration.getModernConfig().getFlyway();
+            final int retention = flywayModel.getReportRetention() == null ? 0 : flywayModel.getReportRetention();
+
             try {
-                htmlCompositeResult = appendIfExists(tmpJsonReportFilename,
-                    htmlCompositeResult,
-                    configuration.getPluginRegister());
-                reportDetails.setJsonReportFilename(createJsonReport(htmlCompositeResult, tmpJsonReportFilename));
+                if (Boolean.TRUE.equals(flywayModel.getReportAppendOnly())) {
+                    final ReportStore reportStore = new ReportStore(
+                        ConfigUtils.getFilenameWithWorkingDirectory(baseReportFilename, configuration),
+                        configuration.getPluginRegister());
+                    if (!reportStore.exists()) {
+                        importJsonReport(tmpJsonReportFilename, reportStore, configuration.getPluginRegister());
+                    }
+                    reportStore.append(executionTime, htmlCompositeResult.individualResults);
+                    reportStore.retain(retention);
+                    reportDetails.setReportStoreFilename(reportStore.getIndexFilename());
+                    htmlCompositeResult = reportStore.read(
+                        flywayModel.getReportHtmlRuns() == null ? 0 : flywayModel.getReportHtmlRuns());
+                } else {
+                    htmlCompositeResult = retainLatestRuns(appendIfExists(tmpJsonReportFilename,
+                        htmlCompositeResult,
+                        configuration.getPluginRegister()), retention);
+                    reportDetails.setJsonReportFilename(createJsonReport(htmlCompositeResult, tmpJsonReportFilename));
+                }
                 reportDetails.setHtmlReportFilename(createHtmlReport(configuration,
                     htmlCompositeResult,
                     tmpHtmlReportFilename));
@@ -153,6 +172,47 @@ public class OperationsReportUtils {
         }
     }
 
+    /**
+     * Copies the runs of an existing JSON report into a new report store, oldest first, so switching to the append-only
+     * store keeps the report history.
+     */
+    private static void importJsonReport(final String jsonReportFilename,
+        final ReportStore reportStore,
+        final PluginRegister pluginRegister) {
+        final CompositeResult<HtmlResult> existing = appendIfExists(jsonReportFilename, new CompositeResult<>(), pluginRegister);
+        final Map<LocalDateTime, List<HtmlResult>> runs = existing.individualResults.stream().collect(
+            Collectors.groupingBy(HtmlResult::getTimestamp, TreeMap::new, Collectors.toList()));
+        runs.forEach(reportStore::append);
+        if (!runs.isEmpty()) {
+            LOG.info("Imported " + runs.size() + " run(s) from " + jsonReportFilename + " into the append-only report store");
+        }
+    }
+
+    /**
+     * Keeps only the results of the latest runs, identified by their timestamps.
+     *
+     * @param maxRuns The number of runs to keep. 0 or less keeps all runs.
+     */
+    static CompositeResult<HtmlResult> retainLatestRuns(final CompositeResult<HtmlResult> htmlCompositeResult,
+        final int maxRuns) {
+        if (maxRuns <= 0) {
+            return htmlCompositeResult;
+        }
+        final List<LocalDateTime> timestamps = htmlCompositeResult.individualResults.stream()
+            .map(HtmlResult::getTimestamp)
+            .distinct()
+            .sorted()
+            .toList();
+        if (timestamps.size() <= maxRuns) {
+            return htmlCompositeResult;
+        }
+        final LocalDateTime oldestKept = timestamps.get(timestamps.size() - maxRuns);
+        htmlCompositeResult.individualResults = htmlCompositeResult.individualResults.stream()
+            .filter(r -> !r.getTimestamp().isBefore(oldestKept))
+            .collect(Collectors.toList());
+        return htmlCompositeResult;
+    }
+
     public static OperationResult filterHtmlResults(final OperationResult result) {
         if (result instanceof CompositeResult<?>) {
             final List<OperationResult> filteredResults = ((CompositeResult<?>) result).individualResults.stream().map(
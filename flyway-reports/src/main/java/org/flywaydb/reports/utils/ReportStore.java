@@ -0,0 +1,239 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-reports
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.reports.utils;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.output.CompositeResult;
+import org.flywaydb.core.api.output.HtmlResult;
+import org.flywaydb.core.api.output.OperationResult;
+import org.flywaydb.core.internal.plugin.PluginRegister;
+import org.flywaydb.core.internal.util.JsonUtils;
+
+/**
+ * Append-only store of report results. Each run is written to its own NDJSON segment holding one result per line,
+ * and recorded as one line in a small index file, so adding a run never reads or rewrites the results of earlier
+ * runs. Only trimming the history to the retention limit rewrites the index. Changes to the index are serialized
+ * across processes by a lock on a sibling lock file, so concurrent runs never lose each other's index lines.
+ * <pre>
+ * report.index              segment file, run timestamp and number of results, one run per line
+ * report.index.lock         locked while the index is changed
+ * report.segments/*.ndjson  the results of one run, one JSON document per line
+ * </pre>
+ */
+@CustomLog
+class ReportStore {
+    private static final String INDEX_EXTENSION = ".index";
+    private static final String LOCK_EXTENSION = ".lock";
+    private static final String SEGMENTS_DIRECTORY_EXTENSION = ".segments";
+    private static final String SEGMENT_EXTENSION = ".ndjson";
+    private static final DateTimeFormatter SEGMENT_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path indexFile;
+    private final Path lockFile;
+    private final Path segmentsDirectory;
+    private final PluginRegister pluginRegister;
+
+    /**
+     * @param baseFilename The report filename without extension, resolved against the working directory.
+     * @param pluginRegister The plugins providing the deserializers of the stored results.
+     */
+    ReportStore(final String baseFilename, final PluginRegister pluginRegister) {
+        this.indexFile = Path.of(baseFilename + INDEX_EXTENSION);
+        this.lockFile = Path.of(baseFilename + INDEX_EXTENSION + LOCK_EXTENSION);
+        this.segmentsDirectory = Path.of(baseFilename + SEGMENTS_DIRECTORY_EXTENSION);
+        this.pluginRegister = pluginRegister;
+    }
+
+    boolean exists() {
+        return Files.exists(indexFile);
+    }
+
+    String getIndexFilename() {
+        try {
+            return indexFile.toFile().getCanonicalPath();
+        } catch (final IOException e) {
+            return indexFile.toAbsolutePath().toString();
+        }
+    }
+
+    /**
+     * Appends the results of a run as a new segment.
+     *
+     * @param timestamp The time of the run.
+     * @param results The results of the run.
+     */
+    void append(final LocalDateTime timestamp, final List<? extends HtmlResult> results) {
+        // One result per line, so the indentation of the regular JSON report is turned off
+        final ObjectWriter jsonWriter = JsonUtils.getJsonMapper().writer().without(SerializationFeature.INDENT_OUTPUT);
+        try {
+            Files.createDirectories(segmentsDirectory);
+            final Path segment = createSegment(timestamp);
+            try (final BufferedWriter writer = Files.newBufferedWriter(segment, StandardCharsets.UTF_8)) {
+                for (final HtmlResult result : results) {
+                    writer.write(jsonWriter.writeValueAsString(result));
+                    writer.newLine();
+                }
+            }
+
+            final String entry = segment.getFileName() + "\t" + timestamp + "\t" + results.size() + System.lineSeparator();
+            withIndexLock(() -> Files.writeString(indexFile, entry, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        } catch (final IOException e) {
+            throw new FlywayException("Unable to append to report store " + indexFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes the oldest runs so that at most the given number of runs is kept.
+     *
+     * @param maxRuns The number of runs to keep. 0 or less keeps all runs.
+     */
+    void retain(final int maxRuns) {
+        if (maxRuns <= 0) {
+            return;
+        }
+
+        final List<String> expired = new ArrayList<>();
+        try {
+            // The index is read and replaced under the lock, so no run appends a line in between that would be lost
+            withIndexLock(() -> {
+                final List<String> entries = readIndex();
+                if (entries.size() <= maxRuns) {
+                    return;
+                }
+                expired.addAll(entries.subList(0, entries.size() - maxRuns));
+                final List<String> kept = entries.subList(entries.size() - maxRuns, entries.size());
+                final Path tmpIndexFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+                Files.write(tmpIndexFile, kept, StandardCharsets.UTF_8);
+                Files.move(tmpIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            });
+            for (final String entry : expired) {
+                Files.deleteIfExists(segmentsDirectory.resolve(entry.split("\t")[0]));
+            }
+        } catch (final IOException e) {
+            throw new FlywayException("Unable to trim report store " + indexFile + ": " + e.getMessage(), e);
+        }
+        if (!expired.isEmpty()) {
+            LOG.debug("Removed " + expired.size() + " run(s) from report store " + indexFile);
+        }
+    }
+
+    /**
+     * Reads the results of the latest stored runs, oldest first. Only the segments of those runs are read.
+     *
+     * @param maxRuns The number of runs to read. 0 or less reads all runs.
+     * @return The results.
+     */
+    CompositeResult<HtmlResult> read(final int maxRuns) {
+        final JsonMapper mapper = JsonUtils.getJsonMapper();
+        mapper.registerModule(new SimpleModule().addDeserializer(OperationResult.class, new ReportsDeserializer(pluginRegister)));
+
+        List<String> entries = readIndex();
+        if (maxRuns > 0 && entries.size() > maxRuns) {
+            entries = entries.subList(entries.size() - maxRuns, entries.size());
+        }
+
+        final CompositeResult<HtmlResult> results = new CompositeResult<>();
+        for (final String entry : entries) {
+            final Path segment = segmentsDirectory.resolve(entry.split("\t")[0]);
+            if (!Files.exists(segment)) {
+                LOG.warn("Skipping missing report segment " + segment);
+                continue;
+            }
+            try (final BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        results.individualResults.add((HtmlResult) mapper.readValue(line, OperationResult.class));
+                    }
+                }
+            } catch (final IOException e) {
+                throw new FlywayException("Unable to read report segment " + segment + ": " + e.getMessage(), e);
+            }
+        }
+        return results;
+    }
+
+    private List<String> readIndex() {
+        if (!Files.exists(indexFile)) {
+            return new ArrayList<>();
+        }
+        try {
+            final List<String> entries = new ArrayList<>();
+            for (final String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    entries.add(line);
+                }
+            }
+            return entries;
+        } catch (final IOException e) {
+            throw new FlywayException("Unable to read report store index " + indexFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs the given change to the index while holding the lock of the index. File locks are held on behalf of the
+     * whole JVM, so threads of the same process are serialized first.
+     */
+    private void withIndexLock(final IndexChange change) throws IOException {
+        synchronized (ReportStore.class) {
+            try (final FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 final FileLock ignored = channel.lock()) {
+                change.run();
+            }
+        }
+    }
+
+    private interface IndexChange {
+        void run() throws IOException;
+    }
+
+    private Path createSegment(final LocalDateTime timestamp) throws IOException {
+        final String name = timestamp.format(SEGMENT_NAME_FORMAT);
+        for (int attempt = 0; ; attempt++) {
+            final Path segment = segmentsDirectory.resolve(name + (attempt == 0 ? "" : "-" + attempt) + SEGMENT_EXTENSION);
+            try {
+                return Files.createFile(segment);
+            } catch (final FileAlreadyExistsException e) {
+                // Another run at the same millisecond; try the next suffix
+            }
+        }
+    }
+}